@@ -0,0 +1,125 @@
+package com.matchpet.bench;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.mapper.AnimalItemMapper;
+import com.matchpet.domain.animal.mapper.AnimalItemMapperImpl;
+import com.matchpet.external.dto.ExternalResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item → Animal 매핑 1건 비용
+ * - reflective: 이전 AnimalIngestService.toAnimal (getter 3개를 getMethod + invoke 로 조회)
+ * - generated : MapStruct AnimalItemMapper
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnimalItemMappingBenchmark {
+
+    private static final int N = 1024;
+
+    private final AnimalItemMapper mapper = new AnimalItemMapperImpl();
+    private ExternalResponse.Item[] items;
+    private int i;
+
+    @Setup
+    public void setUp() {
+        items = new ExternalResponse.Item[N];
+        for (int k = 0; k < N; k++) {
+            ExternalResponse.Item it = new ExternalResponse.Item();
+            it.setDesertionNo(" 44" + (1000000 + k) + " ");
+            it.setHappenDt(LocalDate.of(2025, 1, 1).plusDays(k % 300));
+            it.setHappenPlace("서울특별시 강남구 역삼동 " + k);
+            it.setKindCd("[개] 믹스견");
+            it.setColorCd("갈색&흰색");
+            it.setAge("2023(년생)");
+            it.setWeight("4.2(Kg)");
+            it.setSexCd("F");
+            it.setNeuterYn("Y");
+            it.setSpecialMark("사람을 잘 따름 ");
+            it.setCareNm("강남구 동물보호센터");
+            it.setCareTel("02-000-0000");
+            it.setCareAddr("서울특별시 강남구");
+            it.setProcessState("보호중");
+            it.setPopfile1("http://openapi.animal.go.kr/openapi/service/rest/fileDownloadSrc.jsp?fileName=" + k + "_1.jpg");
+            it.setPopfile2(k % 2 == 0 ? null : "http://openapi.animal.go.kr/files/" + k + "_2.jpg");
+            it.setNoticeNo("서울-강남-2025-" + k);
+            it.setNoticeSdt(LocalDate.of(2025, 1, 5));
+            it.setNoticeEdt(LocalDate.of(2025, 1, 15));
+            it.setOrgNm("서울특별시 강남구");
+            it.setChargeNm("홍길동");
+            items[k] = it;
+        }
+    }
+
+    private ExternalResponse.Item next() {
+        return items[i++ & (N - 1)];
+    }
+
+    @Benchmark
+    public Animal reflective() {
+        return Legacy.toAnimal(next());
+    }
+
+    @Benchmark
+    public Animal generated() {
+        return mapper.toAnimal(next());
+    }
+
+    /** 교체 전 매핑 (비교용 사본) */
+    static final class Legacy {
+        static Animal toAnimal(ExternalResponse.Item it) {
+            Animal a = new Animal();
+            a.setHappenDt(it.getHappenDt());
+            a.setHappenPlace(trimToNull(it.getHappenPlace()));
+            a.setKindCd(trimToNull(it.getKindCd()));
+            a.setColorCd(trimToNull(it.getColorCd()));
+            a.setAge(trimToNull(it.getAge()));
+            a.setWeight(trimToNull(it.getWeight()));
+            a.setSexCd(trimToNull(it.getSexCd()));
+            a.setNeuterYn(trimToNull(it.getNeuterYn()));
+            a.setProcessState(trimToNull(it.getProcessState()));
+            a.setSpecialMark(trimToNull(it.getSpecialMark()));
+            a.setCareNm(trimToNull(it.getCareNm()));
+            a.setCareTel(trimToNull(it.getCareTel()));
+            a.setCareAddr(trimToNull(it.getCareAddr()));
+            a.setOrgNm(trimToNull(it.getOrgNm()));
+            a.setChargeNm(trimToNull(getStringViaReflection(it, "getCareOwnerNm")));
+            a.setNoticeNo(trimToNull(it.getNoticeNo()));
+            a.setNoticeSdt(it.getNoticeSdt());
+            a.setNoticeEdt(it.getNoticeEdt());
+            String p1 = trimToNull(getStringViaReflection(it, "getPopfile1"));
+            String p2 = trimToNull(getStringViaReflection(it, "getPopfile2"));
+            String chosen = (p1 != null) ? p1 : p2;
+            if (chosen != null) {
+                a.setPopfile(chosen);
+                int q = chosen.indexOf('?');
+                String s = (q > -1) ? chosen.substring(0, q) : chosen;
+                a.setFilename(s.substring(s.lastIndexOf('/') + 1));
+            }
+            return a;
+        }
+
+        private static String trimToNull(String s) {
+            if (s == null) return null;
+            String t = s.trim();
+            return t.isEmpty() ? null : t;
+        }
+
+        private static String getStringViaReflection(Object obj, String getterName) {
+            try {
+                Method m = obj.getClass().getMethod(getterName);
+                Object v = m.invoke(obj);
+                return v != null ? v.toString() : null;
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -32,7 +32,6 @@ public class JwtAuthFilter extends OncePerRequestFilter {
   // 퍼블릭 경로 (필터 자체를 스킵)
   private static final String[] PUBLIC_PATTERNS = new String[] {
       "/actuator/**", "/error", "/uploads/**",
-      "/api/internal/ingest/**",
       "/api/auth/**",
       "/api/reco/**",
       "/api/animals/**",
@@ -32,18 +32,65 @@ public class AnimalApiProps {
     /** 평문 서비스키 (백업용) */
     private String decodingKey;
 
-    /** 연결 타임아웃(ms) */
+    /** 읽기/쓰기 유휴 타임아웃(ms) — 연결 후 이 시간 동안 바이트가 오가지 않으면 끊는다 */
     private int timeoutMs = 5000;
 
     /** 최대 페이지 크기 */
     private int pageSizeMax = 1000;
 
+    /** 서비스키 일일 호출 한도 — 모든 노드 합산 (DbAnimalApiQuota), 재시도도 1건씩 센다 */
+    private int dailyQuota = 10000;
+
     /** 내부적으로 사용할 최종 호출 URL */
     private String resolvedEndpoint;
 
     /** 최종 사용할 서비스키 */
     private String serviceKey;
 
+    /** 연결 풀/단계별 타임아웃 (animal.api.http.*) */
+    private final Http http = new Http();
+
+    @Getter
+    @Setter
+    public static class Http {
+        /** TCP 연결(+TLS 이전) 타임아웃 */
+        private int connectTimeoutMs = 3000;
+
+        /** 요청 전송 후 응답 헤더까지 */
+        private int responseTimeoutMs = 15000;
+
+        /** 풀에서 연결을 얻기까지 대기 */
+        private int acquireTimeoutMs = 5000;
+
+        /** 동시 연결 수 상한 */
+        private int maxConnections = 16;
+
+        /** 연결 대기 요청 수 상한 (초과 시 즉시 실패) */
+        private int pendingAcquireMaxCount = 64;
+
+        /** 유휴 연결 유지 시간 (서버 keep-alive 보다 짧게) */
+        private int maxIdleMs = 30000;
+
+        /** 연결 최대 수명 */
+        private int maxLifeMs = 300000;
+
+        /** gzip 응답 요청 */
+        private boolean compress = true;
+    }
+
+    /** 원본 응답 페이지 보관 (animal.api.archive.*) — 재처리/벤치마크 입력용 */
+    private final Archive archive = new Archive();
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /** 적재 호출(fetch/stream) 응답을 gzip 으로 남길지 */
+        private boolean enabled = false;
+
+        /** 보관 디렉터리 */
+        private String dir = "./data/api-archive";
+    }
+
     @PostConstruct
     public void fix() {
         // endpoint 전체 URL이면 그대로 사용, 아니면 baseUrl과 합치기
@@ -0,0 +1,132 @@
+package com.matchpet.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유기동물 적재(ingest) 파이프라인 설정
+ * - fetch → map → write 단계 사이 hand-off 큐 크기 (작을수록 메모리 일정, 1 이상)
+ * - 스트리밍 파싱 모드와 chunk 크기
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "animal.ingest")
+public class AnimalIngestProps {
+
+    /** 단계 간 대기 가능한 페이지 수 (backpressure) */
+    private int queueCapacity = 2;
+
+    /** 응답을 스트리밍 파싱해 item 을 chunk 단위로 흘려보낼지 (false 면 페이지 전체를 한 번에 역직렬화) */
+    private boolean streaming = true;
+
+    /** 스트리밍 시 하류로 넘기는 item 묶음 크기 (= 쓰기 batch/커밋 단위) */
+    private int chunkSize = 200;
+
+    /** 파이프라인 스레드 풀 최소 크기 (적재 1건당 fetch/map 2개 사용, 실제 크기는 동시 적재 수 × 2 이상) */
+    private int poolSize = 8;
+
+    /** 동시에 실행할 백그라운드 적재 작업 수 */
+    private int maxConcurrentJobs = 2;
+
+    /** 실행 대기열 크기 (초과 제출은 429) */
+    private int jobQueueCapacity = 10;
+
+    /** 대량 적재 모드 (animal.ingest.bulk.*) */
+    private final Bulk bulk = new Bulk();
+
+    @Getter
+    @Setter
+    public static class Bulk {
+        /** LOAD DATA 스풀 파일 위치 — 대량 적재 전용 풀(BulkLoadConnectionPool)의 allowLoadLocalInfileInPath */
+        private String spoolDir = System.getProperty("java.io.tmpdir") + "/matchpet-spool";
+
+        /** 대량 적재 전용 풀 크기 (동시 bulk 적재 수만큼) */
+        private int poolSize = 2;
+    }
+
+    /** 실행 중 numOfRows 조정 (animal.ingest.adaptive.*) */
+    private final Adaptive adaptive = new Adaptive();
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+        private boolean enabled = true;
+
+        /** 시작/최대 크기 (외부 API 상한) — 이 값을 절반씩 줄인 단계만 쓴다 */
+        private int maxPageSize = 1000;
+
+        private int minPageSize = 100;
+
+        /** 페이지 응답이 이보다 느리면 한 단계 줄인다 */
+        private long slowMs = 8000;
+
+        /** 이보다 빠른 페이지가 growAfter 번 이어지면 한 단계 키운다 */
+        private long fastMs = 2000;
+
+        private int growAfter = 3;
+    }
+
+    /** 주기적 증분 동기화 (animal.ingest.sync.*) */
+    private final Sync sync = new Sync();
+
+    @Getter
+    @Setter
+    public static class Sync {
+        /** 스케줄러 사용 여부 */
+        private boolean enabled = false;
+
+        /** 실행 주기 (Spring cron) */
+        private String cron = "0 0 * * * *";
+
+        /** 대상 시/도 코드 (비우면 전체 한 번) */
+        private List<String> regions = new ArrayList<>();
+
+        /** watermark 가 없을 때 처음 가져올 기간 */
+        private int initialDays = 30;
+
+        /** 늦게 수정/등록되는 건을 위해 watermark 이전으로 겹쳐 받는 일수 */
+        private int overlapDays = 3;
+
+        /** 한 번에 받는 최대 기간 (오래 멈췄다 재개해도 창이 무한정 커지지 않게) */
+        private int maxWindowDays = 90;
+
+        private int pageSize = 1000;
+    }
+
+    /** 분산 backfill 워커 (animal.ingest.shard.*) */
+    private final Shard shard = new Shard();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        /** 이 노드에서 큐를 확인하고 워커를 띄울지 */
+        private boolean enabled = false;
+
+        /** 노드당 워커 스레드 수 (shard 하나가 ingestExecutor 스레드 2개를 더 쓴다) */
+        private int workers = 2;
+
+        /** backfill 기본 조각 기간 */
+        private int shardDays = 7;
+
+        /** backfill 에 region 을 안 주면 쓰는 시/도 코드 (비우면 전체 한 조각) */
+        private List<String> regions = new ArrayList<>();
+
+        /** lease 길이 — chunk 하나 처리(재시도 포함)보다 충분히 길게 */
+        private int leaseSeconds = 300;
+
+        /** lease 연장 간격 */
+        private int heartbeatSeconds = 60;
+
+        /** 실패 시 재시도 포함 최대 점유 횟수 */
+        private int maxAttempts = 3;
+
+        /** 큐 확인 주기 */
+        private long pollMs = 10000;
+    }
+}
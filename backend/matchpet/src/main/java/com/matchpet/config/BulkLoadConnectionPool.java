@@ -0,0 +1,86 @@
+package com.matchpet.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Function;
+
+/**
+ * 대량 적재(LOAD DATA LOCAL INFILE) 전용 작은 커넥션 풀
+ * - allowLoadLocalInfileInPath(=animal.ingest.bulk.spool-dir)는 이 풀의 커넥션에만 붙인다.
+ *   앱 공용 풀(spring.datasource.url)의 커넥션은 클라이언트 파일을 읽을 수 없다.
+ * - 접속 정보는 spring.datasource.* 를 그대로 쓴다 (읽기/쓰기 분리 시에도 primary).
+ * - DataSource 빈으로 올리지 않는다 (DataSource 자동 구성이 물러나지 않게). 처음 쓸 때 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkLoadConnectionPool implements DisposableBean {
+
+    private final DataSourceProperties db;
+    private final AnimalIngestProps props;
+
+    private volatile HikariDataSource pool;
+
+    /**
+     * 커넥션 하나를 잡아 한 트랜잭션으로 work 를 실행한다 (같은 커넥션 → 세션 임시 테이블 공유)
+     * 호출 쪽 트랜잭션과는 별개로 커밋된다.
+     */
+    public <T> T inTransaction(Function<JdbcTemplate, T> work) {
+        try (Connection con = pool().getConnection()) {
+            con.setAutoCommit(false);
+            try {
+                T result = work.apply(new JdbcTemplate(new SingleConnectionDataSource(con, true)));
+                con.commit();
+                return result;
+            } catch (RuntimeException | Error e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("bulk load connection failed", e);
+        }
+    }
+
+    private HikariDataSource pool() {
+        HikariDataSource p = pool;
+        if (p != null) return p;
+        synchronized (this) {
+            if (pool == null) {
+                AnimalIngestProps.Bulk bulk = props.getBulk();
+                HikariDataSource ds = new HikariDataSource();
+                ds.setPoolName("bulk-load");
+                ds.setDriverClassName(db.determineDriverClassName());
+                ds.setJdbcUrl(withLocalInfile(db.determineUrl(), bulk.getSpoolDir()));
+                ds.setUsername(db.determineUsername());
+                ds.setPassword(db.determinePassword());
+                ds.setMaximumPoolSize(Math.max(1, bulk.getPoolSize()));
+                ds.setMinimumIdle(0);
+                pool = ds;
+            }
+            return pool;
+        }
+    }
+
+    static String withLocalInfile(String url, String spoolDir) {
+        String dir = Path.of(spoolDir).toAbsolutePath().normalize().toString();
+        return url + (url.contains("?") ? "&" : "?")
+                + "allowLoadLocalInfileInPath=" + URLEncoder.encode(dir, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) pool.close();
+    }
+}
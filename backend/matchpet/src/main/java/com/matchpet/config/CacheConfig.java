@@ -0,0 +1,13 @@
+package com.matchpet.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 활성화 — 구현체/크기/만료는 spring.cache.* (Caffeine) 설정을 따른다.
+ * - animalPreview: 외부 API 미리보기 응답 (AnimalPreviewService)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -1,30 +1,81 @@
 package com.matchpet.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 외부 공공데이터 API 전용 HTTP 클라이언트
+ * - 연결 풀 크기/대기 제한, keep-alive 재사용(유휴·수명 제한), gzip 협상
+ * - 단계별 타임아웃: 연결 / 풀 대기 / 응답(첫 바이트) / 읽기·쓰기 유휴
+ *   읽기·쓰기 유휴 타임아웃은 요청이 진행 중일 때만 건다 — 연결에 상시로 걸면 풀에서 쉬는 keep-alive 연결이 닫힌다.
+ * - WebClient(적재)와 RestTemplate(미리보기)이 같은 풀을 쓴다.
+ * - 풀 지표: reactor.netty.connection.provider.{total,active,idle,pending}.connections (name=animal-api)
+ */
 @Configuration
 public class HttpClientConfig {
 
+    private static final String READ_TIMEOUT = "animalReadTimeout";
+    private static final String WRITE_TIMEOUT = "animalWriteTimeout";
+
     private final AnimalApiProps props;
 
     public HttpClientConfig(AnimalApiProps props) {
         this.props = props;
     }
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider animalConnectionProvider() {
+        AnimalApiProps.Http http = props.getHttp();
+        return ConnectionProvider.builder("animal-api")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(http.getAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(http.getMaxIdleMs()))
+                .maxLifeTime(Duration.ofMillis(http.getMaxLifeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient animalHttpClient(ConnectionProvider animalConnectionProvider) {
+        AnimalApiProps.Http http = props.getHttp();
+        int ioTimeout = props.getTimeoutMs();
+        return HttpClient.create(animalConnectionProvider)
+                .keepAlive(true)
+                .compress(http.isCompress()) // Accept-Encoding: gzip + 응답 자동 해제
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, http.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(http.getResponseTimeoutMs()))
+                // 요청 전송 중: 쓰기 유휴 / 본문 수신 중: 읽기 유휴 (첫 바이트까지는 responseTimeout)
+                .doOnRequest((req, conn) -> conn
+                        .addHandlerLast(WRITE_TIMEOUT, new WriteTimeoutHandler(ioTimeout, TimeUnit.MILLISECONDS)))
+                .doOnResponse((res, conn) -> conn
+                        .removeHandler(WRITE_TIMEOUT)
+                        .addHandlerLast(READ_TIMEOUT, new ReadTimeoutHandler(ioTimeout, TimeUnit.MILLISECONDS)))
+                .doAfterResponseSuccess((res, conn) -> conn.removeHandler(READ_TIMEOUT)) // 풀로 돌아가기 전에 뗀다
+                // 쿼리스트링(serviceKey)을 태그로 남기지 않도록 URI 는 고정 값으로
+                .metrics(true, uri -> "animal-api");
+    }
+
     /**
-     * 외부 공공데이터 API 전용 RestTemplate
-     * - 기존 다른 곳에서 쓰는 기본 restTemplate 빈과 이름이 겹치지 않도록 별도 이름을 사용한다.
+     * 외부 공공데이터 API 전용 RestTemplate (미리보기 호출)
+     * - 기본 restTemplate 빈과 이름이 겹치지 않도록 별도 이름을 사용한다.
      */
-    @Bean(name = "externalRestTemplate")
-    public RestTemplate externalRestTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofMillis(props.getTimeoutMs()));
-        factory.setReadTimeout(Duration.ofMillis(props.getTimeoutMs()));
+    @Bean(name = "animalRestTemplate")
+    public RestTemplate animalRestTemplate(HttpClient animalHttpClient) {
+        ReactorClientHttpRequestFactory factory = new ReactorClientHttpRequestFactory(animalHttpClient);
+        factory.setExchangeTimeout(Duration.ofMillis(props.getHttp().getResponseTimeoutMs() + props.getTimeoutMs()));
         return new RestTemplate(factory);
     }
 }
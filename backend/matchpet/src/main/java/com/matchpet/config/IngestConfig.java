@@ -0,0 +1,56 @@
+package com.matchpet.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class IngestConfig {
+
+    /**
+     * 적재 파이프라인(fetch/map 단계) 전용 스레드 풀
+     * - 큐를 두지 않고 풀 크기로만 동시 실행을 제한한다(초과 시 즉시 거절).
+     * - 적재 1건이 스레드 2개를 쓰므로 동시에 돌 수 있는 적재(백그라운드 작업 + shard 워커 + 증분 동기화 1)
+     *   × 2 보다 작게 잡지 않는다 — 작으면 정상 부하에서도 제출이 거절된다.
+     */
+    @Bean(name = "ingestExecutor")
+    public ThreadPoolTaskExecutor ingestExecutor(AnimalIngestProps props) {
+        int concurrentRuns = props.getMaxConcurrentJobs() + Math.max(1, props.getShard().getWorkers()) + 1;
+        int size = Math.max(props.getPoolSize(), concurrentRuns * 2);
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("ingest-");
+        ex.setCorePoolSize(size);
+        ex.setMaxPoolSize(size);
+        ex.setQueueCapacity(0);
+        ex.setAllowCoreThreadTimeOut(true);
+        ex.setWaitForTasksToCompleteOnShutdown(false);
+        return ex;
+    }
+
+    /** 분산 backfill shard 워커 — animal.ingest.shard.workers 만큼만, 대기열 없음 */
+    @Bean(name = "ingestShardExecutor")
+    public ThreadPoolTaskExecutor ingestShardExecutor(AnimalIngestProps props) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("ingest-shard-");
+        ex.setCorePoolSize(Math.max(1, props.getShard().getWorkers()));
+        ex.setMaxPoolSize(Math.max(1, props.getShard().getWorkers()));
+        ex.setQueueCapacity(0);
+        ex.setAllowCoreThreadTimeOut(true);
+        ex.setWaitForTasksToCompleteOnShutdown(false);
+        return ex;
+    }
+
+    /** 백그라운드 적재 작업 실행기 — 동시 실행 수 제한 + 대기열 */
+    @Bean(name = "ingestJobExecutor")
+    public ThreadPoolTaskExecutor ingestJobExecutor(AnimalIngestProps props) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("ingest-job-");
+        ex.setCorePoolSize(props.getMaxConcurrentJobs());
+        ex.setMaxPoolSize(props.getMaxConcurrentJobs());
+        ex.setQueueCapacity(props.getJobQueueCapacity());
+        ex.setWaitForTasksToCompleteOnShutdown(false);
+        return ex;
+    }
+}
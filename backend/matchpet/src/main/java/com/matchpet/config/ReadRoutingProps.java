@@ -0,0 +1,44 @@
+package com.matchpet.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 트랜잭션 → 복제본 라우팅 설정 (app.read-routing.*)
+ * enabled=false 면 spring.datasource 하나만 쓰는 기본 구성 그대로
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.read-routing")
+public class ReadRoutingProps {
+
+    private boolean enabled = false;
+
+    /** 사용자가 쓰기를 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 primary 로 (read-your-writes) */
+    private long stickyMs = 3000;
+
+    /** 복제 지연이 이를 넘으면 모든 읽기를 primary 로 */
+    private int maxLagSeconds = 5;
+
+    /** 복제본 지연 확인 주기 */
+    private long lagCheckMs = 5000;
+
+    /** 복제본 접속 (app.read-routing.replica.*) */
+    private final Replica replica = new Replica();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /** 복제본이 죽었을 때 읽기가 오래 묶이지 않게 primary(기본 30s)보다 짧게 */
+        private long connectionTimeoutMs = 3000;
+    }
+}
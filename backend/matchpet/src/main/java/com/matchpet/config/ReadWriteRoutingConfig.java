@@ -0,0 +1,68 @@
+package com.matchpet.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (app.read-routing.enabled=true)
+ * - primary: spring.datasource.* (쓰기, 트랜잭션 밖 호출, Flyway/ddl)
+ * - replica: app.read-routing.replica.* (@Transactional(readOnly = true), Spring Data 조회 메서드 기본값)
+ * - 앱 전체가 쓰는 @Primary DataSource = LazyConnectionDataSourceProxy(라우팅)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-routing", name = "enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties props) {
+        HikariDataSource ds = props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReadRoutingProps props, DataSourceProperties primary) {
+        ReadRoutingProps.Replica r = props.getReplica();
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("replica");
+        ds.setDriverClassName(primary.determineDriverClassName());
+        ds.setJdbcUrl(r.getUrl());
+        ds.setUsername(r.getUsername());
+        ds.setPassword(r.getPassword());
+        ds.setMaximumPoolSize(r.getMaximumPoolSize());
+        ds.setConnectionTimeout(r.getConnectionTimeoutMs());
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(ReadRoutingProps props,
+                                           @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagGuard(props, replicaDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagGuard guard) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(guard);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
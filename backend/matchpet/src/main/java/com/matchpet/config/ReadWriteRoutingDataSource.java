@@ -0,0 +1,28 @@
+package com.matchpet.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션이면 REPLICA, 그 외(쓰기 트랜잭션 / 트랜잭션 밖)는 PRIMARY
+ * - 트랜잭션 시작 시점에는 readOnly 표시가 아직 없으므로 LazyConnectionDataSourceProxy 뒤에 두어
+ *   첫 쿼리 때 실제 커넥션을 고르게 한다 (ReadWriteRoutingConfig).
+ * - 복제본이 밀렸거나 방금 쓴 사용자면 ReplicaLagGuard 가 PRIMARY 로 돌린다.
+ */
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagGuard guard;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            guard.onPrimaryConnection();
+            return Route.PRIMARY;
+        }
+        return guard.replicaAllowed() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,136 @@
+package com.matchpet.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본 읽기 허용 여부
+ * - read-your-writes: 쓰기 트랜잭션을 커밋한 사용자는 sticky 시간 동안 primary 에서 읽는다
+ *   (노드 메모리 기준 — 다른 인스턴스로 간 요청까지는 보장하지 않는다)
+ * - 지연 감시: SHOW REPLICA STATUS 의 Seconds_Behind_Source 가 maxLag 를 넘거나 복제가 멈췄거나
+ *   복제본에 접속이 안 되면 모든 읽기를 primary 로
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    private final ReadRoutingProps props;
+    private final JdbcTemplate replica;
+    /** 사용자 → primary 고정 만료 시각(ms) */
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaHealthy = true;
+    /** 마지막으로 확인한 지연(초), 모르면 null */
+    private volatile Long lagSeconds;
+    private volatile boolean privilegeWarned;
+
+    public ReplicaLagGuard(ReadRoutingProps props, DataSource replicaDataSource) {
+        this.props = props;
+        this.replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    public boolean replicaAllowed() {
+        if (!replicaHealthy) return false;
+        String who = currentUser();
+        if (who == null) return true;
+        Long until = stickyUntil.get(who);
+        if (until == null) return true;
+        if (until > System.currentTimeMillis()) return false;
+        stickyUntil.remove(who, until);
+        return true;
+    }
+
+    /** primary 커넥션을 잡을 때 — 트랜잭션이면 커밋 후, 아니면 바로 해당 사용자를 sticky 로 */
+    void onPrimaryConnection() {
+        String who = currentUser();
+        if (who == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markWrite(who);
+                }
+            });
+        } else {
+            markWrite(who);
+        }
+    }
+
+    public void markWrite(String who) {
+        Long lag = lagSeconds;
+        long window = Math.max(props.getStickyMs(), lag != null ? lag * 1000 + 1000 : 0);
+        stickyUntil.merge(who, System.currentTimeMillis() + window, Math::max);
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    public Long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-routing.lag-check-ms:5000}")
+    public void checkLag() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+
+        try {
+            List<Map<String, Object>> rows = replica.queryForList("show replica status");
+            if (rows.isEmpty()) {
+                // 복제 채널이 안 보임(관리형 복제본 등) — 지연은 모르지만 읽기는 허용
+                update(true, null);
+                return;
+            }
+            Object behind = rows.get(0).get("Seconds_Behind_Source");
+            if (behind == null) {
+                update(false, null); // 복제 스레드 중단
+                return;
+            }
+            long lag = ((Number) behind).longValue();
+            update(lag <= props.getMaxLagSeconds(), lag);
+        } catch (DataAccessException e) {
+            checkReachable(e);
+        }
+    }
+
+    // REPLICATION CLIENT 권한이 없을 수도 있다 — 접속만 되면 허용
+    private void checkReachable(DataAccessException cause) {
+        try {
+            replica.queryForObject("select 1", Integer.class);
+            if (!privilegeWarned) {
+                privilegeWarned = true;
+                log.warn("replica lag unknown (show replica status failed: {})", cause.getMostSpecificCause().getMessage());
+            }
+            update(true, null);
+        } catch (DataAccessException e) {
+            update(false, null);
+        }
+    }
+
+    private void update(boolean healthy, Long lag) {
+        if (healthy != replicaHealthy) {
+            log.warn("replica reads {} (lag={}s, max={}s)", healthy ? "resumed" : "suspended → primary",
+                    lag, props.getMaxLagSeconds());
+        }
+        lagSeconds = lag;
+        replicaHealthy = healthy;
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean known = auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
+        return known ? auth.getName() : null;
+    }
+}
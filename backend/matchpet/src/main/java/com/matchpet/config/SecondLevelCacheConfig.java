@@ -0,0 +1,82 @@
+package com.matchpet.config;
+
+import com.matchpet.domain.senior.entity.Senior;
+import com.matchpet.domain.senior.entity.SeniorProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 보조 설정 (영역 정의는 hibernate-l2.conf, 켜기는 application.properties)
+ * - seniors 테이블을 Senior / SeniorProfile 이 함께 매핑한다. Hibernate 는 엔티티 영역 단위로만 무효화하므로
+ *   한쪽을 고치거나 지우면 커밋 후 다른 쪽 영역의 같은 id 를 비운다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SecondLevelCacheConfig {
+
+    /** 같은 테이블을 매핑하는 엔티티 쌍 */
+    private static final Map<Class<?>, Class<?>> SHARED_TABLE = Map.of(
+            Senior.class, SeniorProfile.class,
+            SeniorProfile.class, Senior.class);
+
+    private final EntityManagerFactory emf;
+
+    @PostConstruct
+    void registerSharedTableEviction() {
+        SessionFactoryImplementor sf = emf.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sf.getServiceRegistry().getService(EventListenerRegistry.class);
+        SharedTableEviction listener = new SharedTableEviction(sf.getCache());
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    static final class SharedTableEviction implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+        private final transient CacheImplementor cache;
+
+        SharedTableEviction(CacheImplementor cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return SHARED_TABLE.containsKey(persister.getMappedClass());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            evictTwin(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            evictTwin(event.getPersister(), event.getId());
+        }
+
+        // 커밋이 실패하면 DB 가 그대로이므로 상대 영역도 그대로 둔다
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        private void evictTwin(EntityPersister persister, Object id) {
+            Class<?> twin = SHARED_TABLE.get(persister.getMappedClass());
+            if (twin != null) cache.evictEntityData(twin, id);
+        }
+    }
+}
@@ -73,8 +73,8 @@ public class SecurityConfig {
             // ✅ catch‑all 축소: 하위 경로만 보호소/관리자
             .requestMatchers("/api/applications/*/**").hasAnyRole("SHELTER", "ADMIN")
 
-            // 내부 적재
-            .requestMatchers(HttpMethod.POST, "/api/internal/ingest/**").permitAll()
+            // 내부 적재 (작업 제출/상태 조회/취소) — 백필·대량 적재는 공유 일일 한도를 쓰므로 관리자만
+            .requestMatchers("/api/internal/ingest/**").hasRole("ADMIN")
 
             .anyRequest().authenticated())
         .exceptionHandling(ex -> ex
@@ -100,7 +100,7 @@ public class SecurityConfig {
     cfg.setAllowedOriginPatterns(List.of("http://localhost:5173", "http://127.0.0.1:5173"));
     cfg.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
     cfg.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
-    cfg.setExposedHeaders(List.of("Authorization", "Location"));
+    cfg.setExposedHeaders(List.of("Authorization", "Location", "X-SQL-Count", "X-SQL-Time-Ms"));
     cfg.setAllowCredentials(true);
     cfg.setMaxAge(3600L);
 
@@ -0,0 +1,25 @@
+package com.matchpet.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청별 SQL 실행 집계 설정 (app.sql-stats.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sql-stats")
+public class SqlStatsProps {
+
+    /** 메트릭 수집 (http.server.sql.*) */
+    private boolean enabled = true;
+
+    /** X-SQL-Count / X-SQL-Time-Ms 응답 헤더 — 응답을 버퍼링하므로 운영에서는 끈다 */
+    private boolean exposeHeaders = false;
+
+    /** 요청당 실행 수가 이를 넘으면 경고 로그 */
+    private int warnThreshold = 20;
+}
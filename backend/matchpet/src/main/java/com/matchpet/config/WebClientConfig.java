@@ -1,39 +1,24 @@
 package com.matchpet.config;
 
-import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
-import java.util.concurrent.TimeUnit;
 
 @Configuration
-@EnableConfigurationProperties(ExternalAnimalProperties.class)
 public class WebClientConfig {
 
-  private final ExternalAnimalProperties props;
-
-  public WebClientConfig(ExternalAnimalProperties props) {
-    this.props = props;
-  }
-
+  /**
+   * 외부 유기동물 API용 WebClient (적재 파이프라인 fetch 단계)
+   * - Boot 가 구성한 Builder 를 사용해야 spring.http.codec.max-in-memory-size(1000행 페이지 대응)와
+   *   애플리케이션 ObjectMapper 가 그대로 적용된다.
+   * - 연결 풀/타임아웃/gzip 은 HttpClientConfig.animalHttpClient 참고
+   */
   @Bean
-  public WebClient animalWebClient() {
-    int timeout = props.timeoutMs() != null ? props.timeoutMs() : 5000;
-
-    HttpClient httpClient = HttpClient.create()
-        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
-        .doOnConnected(conn -> conn
-            .addHandlerLast(new ReadTimeoutHandler(timeout, TimeUnit.MILLISECONDS))
-            .addHandlerLast(new WriteTimeoutHandler(timeout, TimeUnit.MILLISECONDS)));
-
-    return WebClient.builder()
-        .baseUrl(props.baseUrl())
-        .clientConnector(new ReactorClientHttpConnector(httpClient))
+  public WebClient animalWebClient(WebClient.Builder builder, HttpClient animalHttpClient) {
+    return builder
+        .clientConnector(new ReactorClientHttpConnector(animalHttpClient))
         .build();
   }
 }
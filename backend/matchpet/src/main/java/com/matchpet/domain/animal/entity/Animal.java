@@ -1,21 +1,44 @@
 // src/main/java/com/matchpet/domain/animal/entity/Animal.java
 package com.matchpet.domain.animal.entity;
 
+import com.matchpet.domain.animal.enums.NeuterStatus;
+import com.matchpet.domain.animal.enums.ProcessState;
+import com.matchpet.domain.animal.enums.Sex;
+import com.matchpet.domain.animal.enums.Species;
+import com.matchpet.domain.match.SpecialMarkClassifier;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "animals")
+@Table(name = "animals", indexes = {
+        @Index(name = "idx_animals_risk_level", columnList = "risk_level, status, id"), // V8 에서 넓힘
+        @Index(name = "idx_animals_energy_temperament", columnList = "energy_level, temperament"),
+        @Index(name = "idx_animals_species_age", columnList = "species, age_months"),
+        @Index(name = "idx_animals_process_code", columnList = "process_code, id"),
+        @Index(name = "idx_animals_weight_grams", columnList = "weight_grams"),
+        @Index(name = "idx_animals_status", columnList = "status, happen_dt, id"),   // V8 에서 넓힘
+        @Index(name = "idx_animals_reconcile", columnList = "upr_cd, status, happen_dt"),
+        // V7 과 같은 이름 (실행계획 회귀 테스트 기준)
+        @Index(name = "idx_animals_care_nm_status", columnList = "care_nm, status"),
+        @Index(name = "idx_animals_desertion_no", columnList = "desertion_no"),
+        @Index(name = "idx_animals_shelter", columnList = "shelter_id")
+})
 public class Animal {
 
+    // IDENTITY 는 INSERT 마다 즉시 실행돼 JDBC batch 가 꺼진다 → id_sequences 에서 50개씩 받아 쓴다(pooled-lo)
+    // 적재 JDBC 경로(AnimalBulkRepository)도 같은 행에서 블록을 받는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "animals_id")
+    @TableGenerator(name = "animals_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "animals", allocationSize = 50)
     private Long id;
 
     @Column(name = "external_id", nullable = false, unique = true, length = 64)
@@ -84,12 +107,49 @@ public class Animal {
 
     private String officetel;
 
+    // ===== 원문 정규화 값 (AnimalNormalizer 가 쓰기 시점에 채움, 원문 컬럼은 그대로 유지)
+    /** 발생일 기준 추정 나이(개월) */
+    @Column(name = "age_months")
+    private Integer ageMonths;
+
+    @Column(name = "weight_grams")
+    private Integer weightGrams;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Species species;
+
+    @Column(name = "breed_nm", length = 100)
+    private String breedNm;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sex_type", length = 10)
+    private Sex sexType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "neuter_status", length = 10)
+    private NeuterStatus neuterStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "process_code", length = 20)
+    private ProcessState processCode;
+
+    /** 적재에서 마지막으로 본 시각 (변경이 없어도 갱신) — 정리 단계 기준 */
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
+    /** 외부 원본 다이제스트 (ContentHash) — 같으면 적재 시 쓰기 생략 */
+    @Column(name = "content_hash", length = 40)
+    private String contentHash;
+
     // 서비스 확장 필드들(이미 DB ALTER 했던 것들)
     @Enumerated(EnumType.STRING)
     private Status status = Status.AVAILABLE;
 
     public enum Status {
-        AVAILABLE, MATCHING, CONNECTED, RETURNED
+        AVAILABLE, MATCHING, CONNECTED, RETURNED,
+        /** 원천 목록에서 사라졌거나 종료(입양/반환 등) — 적재 정리 단계에서 전환 */
+        CLOSED
     }
 
     @Enumerated(EnumType.STRING)
@@ -107,6 +167,22 @@ public class Animal {
         QUIET, ACTIVE, COMPANION
     }
 
+    // ===== specialMark 분류 결과 (SpecialMarkEnricher 가 쓰기 시점에 채움)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level", length = 20)
+    private SpecialMarkClassifier.RiskLevel riskLevel;
+
+    @Column(name = "beginner_friendly")
+    private boolean beginnerFriendly;
+
+    @Column(name = "high_activity")
+    private boolean highActivity;
+
+    @Column(name = "medication_required")
+    private boolean medicationRequired;
+
+    private boolean aggressive;
+
     @Column(name = "device_required")
     private boolean deviceRequired;
 
@@ -119,6 +195,10 @@ public class Animal {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /** 적재 중에만 쓰는 예전 키 규칙의 external_id 후보 (기존 행을 찾아 새 키로 옮길 때) — 비영속 */
+    @Transient
+    private List<String> legacyExternalIds = List.of();
+
     @Transient
     public String getBreed() {
         return getKindCd();
@@ -1,5 +1,5 @@
 package com.matchpet.domain.animal.enums;
 
 public enum NeuterStatus {
-  SPAYED, NEUTERED, UNKNOWN
+  SPAYED, NEUTERED, INTACT, UNKNOWN
 }
@@ -0,0 +1,14 @@
+package com.matchpet.domain.animal.enums;
+
+/** 외부 processState 문자열("공고중", "보호중", "종료(입양)" …)의 정규화 값 */
+public enum ProcessState {
+  NOTICE,        // 공고중
+  PROTECT,       // 보호중
+  ADOPTED,       // 종료(입양)
+  RETURNED,      // 종료(반환)
+  DONATED,       // 종료(기증)
+  RELEASED,      // 종료(방사)
+  NATURAL_DEATH, // 종료(자연사)
+  EUTHANASIA,    // 종료(안락사)
+  ENDED          // 그 밖의 종료
+}
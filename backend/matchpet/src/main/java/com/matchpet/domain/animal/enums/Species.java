@@ -0,0 +1,7 @@
+package com.matchpet.domain.animal.enums;
+
+public enum Species {
+  DOG,   // [개]
+  CAT,   // [고양이]
+  ETC    // [기타축종]
+}
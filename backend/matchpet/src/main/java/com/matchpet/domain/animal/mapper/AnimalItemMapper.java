@@ -0,0 +1,65 @@
+package com.matchpet.domain.animal.mapper;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.external.dto.ExternalResponse;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * 외부 레코드(ExternalResponse.Item) → Animal 매핑 (컴파일 타임 생성, 리플렉션 없음)
+ * - 모든 문자열은 trim, 빈 문자열은 null
+ * - 이미지: popfile1 → popfile2 → popfile 순으로 고르고 filename 은 URL 에서 추출.
+ *   고를 게 없으면 대상 값을 건드리지 않는다(기존 사진 유지).
+ * - 키(externalId)·다이제스트·서비스 확장 필드는 매핑하지 않는다 (적재 서비스 담당)
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public abstract class AnimalItemMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "externalId", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "popfile", ignore = true)
+    @Mapping(target = "filename", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    public abstract Animal toAnimal(ExternalResponse.Item it);
+
+    /** 기존 엔티티 갱신 (JPA 경로) */
+    @InheritConfiguration(name = "toAnimal")
+    public abstract void update(ExternalResponse.Item it, @MappingTarget Animal target);
+
+    @AfterMapping
+    protected void applyImage(ExternalResponse.Item it, @MappingTarget Animal target) {
+        String chosen = firstNonBlank(it.getPopfile1(), it.getPopfile2(), it.getPopfile());
+        if (chosen != null) {
+            target.setPopfile(chosen);
+            target.setFilename(extractFileName(chosen));
+        }
+    }
+
+    /** String → String 매핑에 자동 적용 */
+    protected String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    private static String firstNonBlank(String... arr) {
+        for (String s : arr) {
+            if (s != null && !s.isBlank()) return s.trim();
+        }
+        return null;
+    }
+
+    private static String extractFileName(String url) {
+        int q = url.indexOf('?');
+        String s = (q > -1) ? url.substring(0, q) : url;
+        int slash = s.lastIndexOf('/');
+        return (slash > -1) ? s.substring(slash + 1) : s;
+    }
+}
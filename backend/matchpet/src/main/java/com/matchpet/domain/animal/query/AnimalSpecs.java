@@ -1,9 +1,10 @@
 package com.matchpet.domain.animal.query;
 
 import com.matchpet.domain.animal.entity.Animal;
-import com.matchpet.domain.animal.enums.AnimalStatus;
 import com.matchpet.domain.animal.enums.NeuterStatus;
+import com.matchpet.domain.animal.enums.ProcessState;
 import com.matchpet.domain.animal.enums.Sex;
+import com.matchpet.domain.animal.enums.Species;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -13,11 +14,12 @@ import java.util.List;
 public class AnimalSpecs {
 
   // ← 컨트롤러에서 부르는 10개 파라미터 버전
+  // 조건은 모두 적재 시 정규화한 타입 컬럼(AnimalNormalizer) 기준 — 원문 문자열을 훑지 않는다
   public static Specification<Animal> filter(
       String region,
-      AnimalStatus status,
+      ProcessState status,
       Sex sex,
-      String species,
+      Species species,
       String breed,
       Integer ageMin,
       Integer ageMax,
@@ -29,19 +31,19 @@ public class AnimalSpecs {
       List<Predicate> p = new ArrayList<>();
 
       if (region != null && !region.isBlank()) {
-        p.add(cb.equal(root.get("region"), region));
+        p.add(cb.equal(root.get("uprCd"), region));
       }
       if (status != null) {
-        p.add(cb.equal(root.get("status"), status));
+        p.add(cb.equal(root.get("processCode"), status));
       }
       if (sex != null) {
-        p.add(cb.equal(root.get("sex"), sex));
+        p.add(cb.equal(root.get("sexType"), sex));
       }
-      if (species != null && !species.isBlank()) {
+      if (species != null) {
         p.add(cb.equal(root.get("species"), species));
       }
       if (breed != null && !breed.isBlank()) {
-        p.add(cb.equal(root.get("breed"), breed));
+        p.add(cb.equal(root.get("breedNm"), breed));
       }
       if (ageMin != null) {
         p.add(cb.greaterThanOrEqualTo(root.get("ageMonths"), ageMin));
@@ -53,15 +55,14 @@ public class AnimalSpecs {
         p.add(cb.equal(root.get("neuterStatus"), neuterStatus));
       }
       if (shelterId != null) {
-        p.add(cb.equal(root.get("shelter").get("id"), shelterId));
+        p.add(cb.equal(root.get("shelterId"), shelterId));
       }
       if (q != null && !q.isBlank()) {
         String like = "%" + q.toLowerCase() + "%";
-        var nameLike = cb.like(cb.lower(root.get("name")), like);
-        var breedLike = cb.like(cb.lower(root.get("breed")), like);
-        // description 필드명이 note라면 아래 한 줄을 note로 바꿔줘.
-        var noteLike  = cb.like(cb.lower(root.get("description")), like);
-        p.add(cb.or(nameLike, breedLike, noteLike));
+        var careLike  = cb.like(cb.lower(root.get("careNm")), like);
+        var breedLike = cb.like(cb.lower(root.get("breedNm")), like);
+        var noteLike  = cb.like(cb.lower(root.get("specialMark")), like);
+        p.add(cb.or(careLike, breedLike, noteLike));
       }
 
       return cb.and(p.toArray(new Predicate[0]));
@@ -0,0 +1,386 @@
+package com.matchpet.domain.animal.repository;
+
+import com.matchpet.config.BulkLoadConnectionPool;
+import com.matchpet.domain.animal.entity.Animal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 적재 전용 JDBC 배치 쓰기
+ * - JPA save() 는 행마다 왕복이 생기므로 페이지 단위로 batchUpdate 한다.
+ * - 신규 행은 INSERT ... ON DUPLICATE KEY UPDATE (external_id UNIQUE) 로 경합 시에도 안전
+ * - 기존 행은 id 기준 UPDATE
+ * - 대량 모드(mergeViaStaging): TSV 스풀 → LOAD DATA LOCAL INFILE → 스테이징 → 한 문장 병합
+ * - id 는 AUTO_INCREMENT 대신 id_sequences 에서 블록으로 받아 직접 넣는다 (JPA @TableGenerator 와 같은 시퀀스)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalBulkRepository {
+
+    // 값 순서 = insertParams() 순서 (INSERT / LOAD DATA 스풀 파일 공통)
+    private static final String COLUMNS = """
+              id, external_id, desertion_no, happen_dt, happen_place, kind_cd, color_cd, age, weight,
+              sex_cd, neuter_yn, process_state, special_mark,
+              care_nm, care_tel, care_addr, org_nm, charge_nm,
+              notice_no, notice_sdt, notice_edt, popfile, filename,
+              upr_cd, officetel, status, device_required, content_hash,
+              risk_level, beginner_friendly, high_activity, medication_required, aggressive,
+              energy_level, temperament,
+              age_months, weight_grams, species, breed_nm, sex_type, neuter_status, process_code,
+              last_seen_at
+            """;
+
+    // 기존 값을 읽는 쪽은 animals. 로 한정 (INSERT ... SELECT 병합에서 스테이징 컬럼과 헷갈리지 않게)
+    // energy_level/temperament 는 비어 있을 때만 분류 결과로 채운다 (보호소가 직접 입력한 값 우선, UPDATE_SQL 도 같음)
+    private static final String UPSERT_SET = """
+              desertion_no  = coalesce(values(desertion_no), animals.desertion_no),
+              happen_dt     = values(happen_dt),
+              happen_place  = values(happen_place),
+              kind_cd       = values(kind_cd),
+              color_cd      = values(color_cd),
+              age           = values(age),
+              weight        = values(weight),
+              sex_cd        = values(sex_cd),
+              neuter_yn     = values(neuter_yn),
+              process_state = values(process_state),
+              special_mark  = values(special_mark),
+              care_nm       = values(care_nm),
+              care_tel      = values(care_tel),
+              care_addr     = values(care_addr),
+              org_nm        = values(org_nm),
+              charge_nm     = values(charge_nm),
+              upr_cd        = coalesce(values(upr_cd), animals.upr_cd),
+              officetel     = values(officetel),
+              notice_no     = values(notice_no),
+              notice_sdt    = values(notice_sdt),
+              notice_edt    = values(notice_edt),
+              content_hash  = values(content_hash),
+              risk_level          = values(risk_level),
+              beginner_friendly   = values(beginner_friendly),
+              high_activity       = values(high_activity),
+              medication_required = values(medication_required),
+              aggressive          = values(aggressive),
+              energy_level        = coalesce(animals.energy_level, values(energy_level)),
+              temperament         = coalesce(animals.temperament, values(temperament)),
+              age_months          = values(age_months),
+              weight_grams        = values(weight_grams),
+              species             = values(species),
+              breed_nm            = values(breed_nm),
+              sex_type            = values(sex_type),
+              neuter_status       = values(neuter_status),
+              process_code        = values(process_code),
+              last_seen_at        = values(last_seen_at),
+              status        = case when animals.status = 'CLOSED' and values(process_code) in ('NOTICE','PROTECT')
+                                   then 'AVAILABLE' else animals.status end,
+              filename      = case when values(popfile) is not null then values(filename)
+                                   when animals.popfile is null then null else animals.filename end,
+              popfile       = coalesce(values(popfile), animals.popfile)
+            """;
+
+    private static final String INSERT_SQL =
+            "insert into animals (" + COLUMNS + ") values (" + placeholders(COLUMNS) + ")\n" +
+            "on duplicate key update\n" + UPSERT_SET;
+
+    // CLOSED 로 정리됐던 행이 공고/보호 상태로 다시 보이면 AVAILABLE 로 되돌린다 (process_code 대입 뒤에 둘 것)
+    // filename 은 popfile 보다 먼저 대입해야 기존 popfile 값을 기준으로 판단한다(MySQL 은 좌→우 순서로 반영)
+    private static final String UPDATE_SQL = """
+            update animals set
+              external_id   = ?,
+              desertion_no  = coalesce(?, desertion_no),
+              happen_dt     = ?,
+              happen_place  = ?,
+              kind_cd       = ?,
+              color_cd      = ?,
+              age           = ?,
+              weight        = ?,
+              sex_cd        = ?,
+              neuter_yn     = ?,
+              process_state = ?,
+              special_mark  = ?,
+              care_nm       = ?,
+              care_tel      = ?,
+              care_addr     = ?,
+              org_nm        = ?,
+              charge_nm     = ?,
+              upr_cd        = coalesce(?, upr_cd),
+              officetel     = ?,
+              notice_no     = ?,
+              notice_sdt    = ?,
+              notice_edt    = ?,
+              content_hash  = ?,
+              risk_level          = ?,
+              beginner_friendly   = ?,
+              high_activity       = ?,
+              medication_required = ?,
+              aggressive          = ?,
+              energy_level        = coalesce(energy_level, ?),
+              temperament         = coalesce(temperament, ?),
+              age_months          = ?,
+              weight_grams        = ?,
+              species             = ?,
+              breed_nm            = ?,
+              sex_type            = ?,
+              neuter_status       = ?,
+              process_code        = ?,
+              last_seen_at        = ?,
+              status        = case when status = 'CLOSED' and process_code in ('NOTICE','PROTECT')
+                                   then 'AVAILABLE' else status end,
+              filename      = case when ? is not null then ? when popfile is null then null else filename end,
+              popfile       = coalesce(?, popfile)
+            where id = ?
+            """;
+
+    // 원천 적재 행(content_hash 있음)만 대상. 서비스 상태가 진행 중(MATCHING 등)인 행은 건드리지 않는다
+    private static final String RETIRE_SQL = """
+            update animals set status = 'CLOSED', updated_at = ?
+            where status = 'AVAILABLE'
+              and content_hash is not null
+              and happen_dt between ? and ?
+              and (? is null or upr_cd = ?)
+              and (last_seen_at is null or last_seen_at < ?
+                   or process_code in ('ADOPTED','RETURNED','DONATED','RELEASED','NATURAL_DEATH','EUTHANASIA','ENDED'))
+            """;
+
+    // 커넥션별 임시 테이블 — 동시에 도는 적재끼리 섞이지 않고, 커넥션이 닫히면 사라진다 (인덱스 없음)
+    private static final String STAGE_DDL =
+            "create temporary table if not exists animals_stage as select " + COLUMNS + " from animals where 1 = 0";
+
+    private static final String STAGE_COUNT_SQL = """
+            select count(*) as total,
+                   coalesce(sum(a.id is null), 0) as fresh,
+                   coalesce(sum(a.id is not null and a.content_hash <=> s.content_hash), 0) as same
+            from animals_stage s left join animals a on a.external_id = s.external_id
+            """;
+
+    // 내용이 같은 행은 last_seen_at 만 (CLOSED 였다가 다시 보이면 되살림)
+    private static final String STAGE_TOUCH_SQL = """
+            update animals a join animals_stage s on a.external_id = s.external_id
+            set a.last_seen_at = s.last_seen_at,
+                a.upr_cd = coalesce(a.upr_cd, s.upr_cd),
+                a.status = case when a.status = 'CLOSED' and a.process_code in ('NOTICE','PROTECT')
+                                then 'AVAILABLE' else a.status end
+            where a.content_hash <=> s.content_hash
+            """;
+
+    private static final String STAGE_MERGE_SQL =
+            "insert into animals (" + COLUMNS + ")\n" +
+            "select * from (select " + COLUMNS + " from animals_stage s\n" +
+            "  where not exists (select 1 from animals a\n" +
+            "                    where a.external_id = s.external_id and a.content_hash <=> s.content_hash)) as dt\n" +
+            "on duplicate key update\n" + UPSERT_SET;
+
+    private static final String EXISTING_IDS_SQL =
+            "select external_id, id from animals where external_id in (:ids)";
+
+    private static final DateTimeFormatter TSV_DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final IdSequenceRepository ids;
+    private final BulkLoadConnectionPool bulkLoad;
+
+    /** 신규 행 일괄 INSERT (external_id 충돌 시 UPDATE — 그때 받아 둔 id 는 버려진다) */
+    public int insertAll(List<Animal> rows) {
+        if (rows.isEmpty()) return 0;
+        assignNewIds(rows);
+        jdbc.batchUpdate(INSERT_SQL, rows.stream().map(AnimalBulkRepository::insertParams).toList());
+        return rows.size();
+    }
+
+    /** 기존 행 일괄 UPDATE (Animal.id 필수) */
+    public int updateAll(List<Animal> rows) {
+        if (rows.isEmpty()) return 0;
+        jdbc.batchUpdate(UPDATE_SQL, rows.stream().map(AnimalBulkRepository::updateParams).toList());
+        return rows.size();
+    }
+
+    /** 변경 없이 다시 본 행의 last_seen_at 만 갱신 (한 문장) — upr_cd 가 비어 있던 행은 이번 요청 지역으로 채운다 */
+    public int touchSeen(Collection<Long> ids, LocalDateTime seenAt, String uprCd) {
+        if (ids.isEmpty()) return 0;
+        return named.update("update animals set last_seen_at = :at, upr_cd = coalesce(upr_cd, :upr), " +
+                        "status = case when status = 'CLOSED' and process_code in ('NOTICE','PROTECT') " +
+                        "then 'AVAILABLE' else status end where id in (:ids)",
+                new MapSqlParameterSource().addValue("at", seenAt).addValue("upr", uprCd).addValue("ids", ids));
+    }
+
+    /**
+     * 범위(happen_dt, upr_cd) 안에서 seenSince 이후 보이지 않았거나 원천이 종료로 표시한 AVAILABLE 행을
+     * 한 번의 UPDATE 로 CLOSED 처리하고 건수를 돌려준다.
+     */
+    public int retireUnseen(String uprCd, LocalDate from, LocalDate to, LocalDateTime seenSince) {
+        return jdbc.update(RETIRE_SQL, LocalDateTime.now(), from, to, uprCd, uprCd, seenSince);
+    }
+
+    /**
+     * 대량 모드 병합 (전용 풀 커넥션 하나에서 한 트랜잭션 — 호출 트랜잭션과 따로 커밋)
+     * 1) rows 를 spoolDir 의 TSV 로 흘려 쓰고 2) LOAD DATA LOCAL INFILE 로 스테이징에 싣고
+     * 3) 신규/변경/동일 건수를 한 번에 센 뒤 4) 동일 행은 last_seen_at 만, 나머지는 external_id 기준 한 문장 upsert.
+     * desertion_no 로 예전 external_id 를 찾아 고치는 보정은 하지 않는다 (JDBC batch 경로 담당).
+     * 병합은 external_id 기준 upsert 라 호출 트랜잭션(체크포인트)이 실패해 chunk 를 다시 실어도 결과가 같다.
+     * 드라이버 allowLoadLocalInfileInPath 는 BulkLoadConnectionPool 커넥션에만 있다. 서버는 local_infile=ON 이어야 한다.
+     *
+     * @return {inserted, updated, unchanged}
+     */
+    public int[] mergeViaStaging(Collection<Animal> rows, Path spoolDir) {
+        if (rows.isEmpty()) return new int[] { 0, 0, 0 };
+        assignIds(rows);
+        Path spool = spool(rows, spoolDir);
+        try {
+            return bulkLoad.inTransaction(j -> {
+                j.execute(STAGE_DDL);
+                j.execute("truncate table animals_stage");
+                j.execute("load data local infile '" + sqlPath(spool) + "' into table animals_stage " +
+                        "character set utf8mb4 fields terminated by '\\t' escaped by '\\\\' " +
+                        "lines terminated by '\\n' (" + COLUMNS + ")");
+
+                int[] counts = j.queryForObject(STAGE_COUNT_SQL, (rs, i) -> {
+                    int total = rs.getInt("total"), fresh = rs.getInt("fresh"), same = rs.getInt("same");
+                    return new int[] { fresh, total - fresh - same, same };
+                });
+                j.update(STAGE_TOUCH_SQL);
+                j.update(STAGE_MERGE_SQL);
+                return counts;
+            });
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException ignored) {
+                // 임시 파일 — 다음 정리 때 지워도 무방
+            }
+        }
+    }
+
+    /** 이미 있는 external_id 는 그 행의 id, 없는 것만 새 블록에서 (스테이징 id 컬럼은 NOT NULL) */
+    private void assignIds(Collection<Animal> rows) {
+        Map<String, Long> existing = new HashMap<>();
+        named.query(EXISTING_IDS_SQL,
+                new MapSqlParameterSource("ids", rows.stream().map(Animal::getExternalId).toList()),
+                rs -> { existing.put(rs.getString(1), rs.getLong(2)); });
+        List<Animal> fresh = new ArrayList<>();
+        for (Animal a : rows) {
+            Long id = existing.get(a.getExternalId());
+            if (id != null) a.setId(id); else fresh.add(a);
+        }
+        assignNewIds(fresh);
+    }
+
+    private void assignNewIds(List<Animal> rows) {
+        if (rows.isEmpty()) return;
+        long next = ids.allocate(IdSequenceRepository.ANIMALS, rows.size());
+        for (Animal a : rows) a.setId(next++);
+    }
+
+    private static Path spool(Collection<Animal> rows, Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Path file = Files.createTempFile(dir, "animals-", ".tsv");
+            try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Animal a : rows) {
+                    Object[] v = insertParams(a);
+                    for (int i = 0; i < v.length; i++) {
+                        if (i > 0) w.write('\t');
+                        w.write(tsv(v[i]));
+                    }
+                    w.write('\n');
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("spool write failed: " + dir, e);
+        }
+    }
+
+    // LOAD DATA 기본 이스케이프 규칙: NULL = \N, 역슬래시/탭/개행은 역슬래시 이스케이프
+    private static String tsv(Object v) {
+        if (v == null) return "\\N";
+        if (v instanceof Boolean b) return b ? "1" : "0";
+        if (v instanceof LocalDateTime t) return TSV_DATETIME.format(t);
+        String s = v.toString();
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            String esc = switch (ch) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\0' -> "\\0";
+                default -> null;
+            };
+            if (esc != null && sb == null) sb = new StringBuilder(s.length() + 8).append(s, 0, i);
+            if (sb != null) {
+                if (esc != null) sb.append(esc); else sb.append(ch);
+            }
+        }
+        return sb != null ? sb.toString() : s;
+    }
+
+    private static String sqlPath(Path p) {
+        return p.toAbsolutePath().normalize().toString().replace('\\', '/').replace("'", "''");
+    }
+
+    private static String placeholders(String columns) {
+        int n = columns.split(",").length;
+        return "?,".repeat(n - 1) + "?";
+    }
+
+    private static Object[] insertParams(Animal a) {
+        return new Object[] {
+                a.getId(), a.getExternalId(), a.getDesertionNo(), a.getHappenDt(), a.getHappenPlace(),
+                a.getKindCd(), a.getColorCd(), a.getAge(), a.getWeight(),
+                a.getSexCd(), a.getNeuterYn(), a.getProcessState(), a.getSpecialMark(),
+                a.getCareNm(), a.getCareTel(), a.getCareAddr(), a.getOrgNm(), a.getChargeNm(),
+                a.getNoticeNo(), a.getNoticeSdt(), a.getNoticeEdt(), a.getPopfile(), a.getFilename(),
+                a.getUprCd(), a.getOfficetel(),
+                (a.getStatus() != null ? a.getStatus() : Animal.Status.AVAILABLE).name(), a.isDeviceRequired(),
+                a.getContentHash(),
+                name(a.getRiskLevel()), a.isBeginnerFriendly(),
+                a.isHighActivity(), a.isMedicationRequired(), a.isAggressive(),
+                name(a.getEnergyLevel()), name(a.getTemperament()),
+                a.getAgeMonths(), a.getWeightGrams(), name(a.getSpecies()), a.getBreedNm(),
+                name(a.getSexType()), name(a.getNeuterStatus()), name(a.getProcessCode()),
+                a.getLastSeenAt()
+        };
+    }
+
+    private static String name(Enum<?> e) {
+        return e != null ? e.name() : null;
+    }
+
+    private static Object[] updateParams(Animal a) {
+        return new Object[] {
+                a.getExternalId(), a.getDesertionNo(), a.getHappenDt(), a.getHappenPlace(),
+                a.getKindCd(), a.getColorCd(), a.getAge(), a.getWeight(),
+                a.getSexCd(), a.getNeuterYn(), a.getProcessState(), a.getSpecialMark(),
+                a.getCareNm(), a.getCareTel(), a.getCareAddr(), a.getOrgNm(), a.getChargeNm(),
+                a.getUprCd(), a.getOfficetel(),
+                a.getNoticeNo(), a.getNoticeSdt(), a.getNoticeEdt(), a.getContentHash(),
+                name(a.getRiskLevel()), a.isBeginnerFriendly(),
+                a.isHighActivity(), a.isMedicationRequired(), a.isAggressive(),
+                name(a.getEnergyLevel()), name(a.getTemperament()),
+                a.getAgeMonths(), a.getWeightGrams(), name(a.getSpecies()), a.getBreedNm(),
+                name(a.getSexType()), name(a.getNeuterStatus()), name(a.getProcessCode()),
+                a.getLastSeenAt(),
+                a.getPopfile(), a.getFilename(), a.getPopfile(),
+                a.getId()
+        };
+    }
+}
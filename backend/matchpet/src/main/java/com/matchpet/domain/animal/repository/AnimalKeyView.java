@@ -0,0 +1,9 @@
+package com.matchpet.domain.animal.repository;
+
+/** 적재 시 기존 행 식별용 키 프로젝션 (엔티티 전체를 올리지 않는다) */
+public interface AnimalKeyView {
+    Long getId();
+    String getExternalId();
+    String getDesertionNo();
+    String getContentHash();
+}
@@ -1,7 +1,9 @@
 package com.matchpet.domain.animal.repository;
 
 import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.match.SpecialMarkClassifier;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AnimalRepository extends JpaRepository<Animal, Long> {
 
@@ -21,6 +24,26 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     Optional<Animal> findByExternalId(String externalId);
     Optional<Animal> findByDesertionNo(String desertionNo);
 
+    // 적재 배치용: 페이지 전체 키를 한 번의 IN 조회로 식별
+    @Query("select a.id as id, a.externalId as externalId, a.desertionNo as desertionNo, " +
+           "a.contentHash as contentHash from Animal a " +
+           "where a.externalId in :externalIds or a.desertionNo in :desertionNos")
+    List<AnimalKeyView> findKeys(@Param("externalIds") Collection<String> externalIds,
+                                 @Param("desertionNos") Collection<String> desertionNos);
+
+    // 추천 후보: 분류 위험도로 거른다 (risk_level 인덱스). 분류 전(null) 행은 포함
+    // 원천에서 정리된(CLOSED) 행은 제외
+    @Query(value = "select a from Animal a where (a.riskLevel in :levels or a.riskLevel is null) and a.status <> :closed",
+           countQuery = "select count(a) from Animal a " +
+                        "where (a.riskLevel in :levels or a.riskLevel is null) and a.status <> :closed")
+    Page<Animal> findRecommendable(@Param("levels") Collection<SpecialMarkClassifier.RiskLevel> levels,
+                                   @Param("closed") Animal.Status closed, Pageable pageable);
+
+    // 목록 기본 조회: 정리된(CLOSED) 행 제외
+    Page<Animal> findByStatusNot(Animal.Status status, Pageable pageable);
+
+    Page<Animal> findByCareNmContainingIgnoreCaseAndStatusNot(String careNm, Animal.Status status, Pageable pageable);
+
     // ⭐ AuthService에서 사용
     boolean existsByCareNm(String careNm);
 
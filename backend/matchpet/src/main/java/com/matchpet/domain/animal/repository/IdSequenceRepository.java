@@ -0,0 +1,43 @@
+package com.matchpet.domain.animal.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * id_sequences 블록 발급 (JDBC 적재 경로용)
+ * - Hibernate @TableGenerator(pooled-lo) 와 같은 규칙: next_val 을 읽고 +n 해 두고 [next_val, next_val+n) 을 쓴다.
+ * - 별도 트랜잭션에서 바로 커밋 — 호출 측 chunk 트랜잭션이 끝날 때까지 시퀀스 행 잠금을 쥐고 있지 않게.
+ *   (롤백되면 그 블록은 버려질 뿐 겹치지는 않는다)
+ */
+@Repository
+public class IdSequenceRepository {
+
+    public static final String TABLE = "id_sequences";
+    public static final String ANIMALS = "animals";
+    public static final String APPLICATIONS = "applications";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public IdSequenceRepository(JdbcTemplate jdbc, PlatformTransactionManager txManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** n 개 연속 id 의 첫 값 */
+    public long allocate(String sequence, int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be positive: " + n);
+        Long first = tx.execute(s -> {
+            // last_insert_id(expr) — 갱신 후 값을 같은 커넥션에서 다시 읽는다 (SELECT ... FOR UPDATE 왕복 없이)
+            int updated = jdbc.update("update " + TABLE + " set next_val = last_insert_id(next_val + ?) " +
+                    "where sequence_name = ?", n, sequence);
+            if (updated != 1) throw new IllegalStateException("id sequence not found: " + sequence);
+            return jdbc.queryForObject("select last_insert_id()", Long.class) - n;
+        });
+        return first;
+    }
+}
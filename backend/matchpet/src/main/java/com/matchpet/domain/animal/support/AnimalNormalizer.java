@@ -0,0 +1,131 @@
+package com.matchpet.domain.animal.support;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.enums.NeuterStatus;
+import com.matchpet.domain.animal.enums.ProcessState;
+import com.matchpet.domain.animal.enums.Sex;
+import com.matchpet.domain.animal.enums.Species;
+import com.matchpet.domain.ingest.engine.IngestEnricher;
+import com.matchpet.external.dto.ExternalResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 원문 문자열 → 타입 컬럼 정규화 (적재 map 단계 / 보호소 직접 등록)
+ * - age "2022(년생)", "2024(60일미만)(년생)" → ageMonths (발생일 기준 추정 개월 수)
+ * - weight "3.2(Kg)", "0.5kg" → weightGrams
+ * - kindCd "[개] 믹스견" → species DOG + breedNm "믹스견"
+ * - sexCd M/F/Q → sexType, neuterYn Y/N/U → neuterStatus
+ * - processState "보호중", "종료(입양)" → processCode
+ * 원문 컬럼은 그대로 두고, 해석할 수 없으면 null.
+ */
+@Component
+@Order(50)
+public class AnimalNormalizer implements IngestEnricher {
+
+    private static final Pattern YEAR = Pattern.compile("(19|20)\\d{2}");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+    private static final Pattern KIND = Pattern.compile("^\\s*\\[([^]]+)]\\s*(.*)$");
+    private static final int MAX_WEIGHT_GRAMS = 200_000;
+
+    @Override
+    public void enrich(ExternalResponse.Item source, Animal target) {
+        apply(target);
+    }
+
+    public void apply(Animal a) {
+        LocalDate ref = a.getHappenDt() != null ? a.getHappenDt()
+                : a.getNoticeSdt() != null ? a.getNoticeSdt() : LocalDate.now();
+        a.setAgeMonths(ageMonths(a.getAge(), ref));
+        a.setWeightGrams(weightGrams(a.getWeight()));
+        a.setSpecies(species(a.getKindCd()));
+        a.setBreedNm(breed(a.getKindCd()));
+        a.setSexType(sex(a.getSexCd()));
+        a.setNeuterStatus(neuter(a.getNeuterYn(), a.getSexType()));
+        a.setProcessCode(processState(a.getProcessState()));
+    }
+
+    /**
+     * 원천은 출생 연도만 준다 — 그 해 1/1 ~ min(12/31, 기준일) 의 중간을 출생일로 보고 개월 수를 센다.
+     * "60일미만" 표기는 1개월로 본다.
+     */
+    static Integer ageMonths(String raw, LocalDate ref) {
+        if (raw == null) return null;
+        if (raw.contains("60일미만")) return 1;
+        Matcher m = YEAR.matcher(raw);
+        if (!m.find()) return null;
+        int year = Integer.parseInt(m.group());
+        if (year > ref.getYear()) return null;
+
+        LocalDate start = LocalDate.of(year, 1, 1);
+        LocalDate end = year == ref.getYear() ? ref : LocalDate.of(year, 12, 31);
+        LocalDate birth = start.plusDays(ChronoUnit.DAYS.between(start, end) / 2);
+        return (int) ChronoUnit.MONTHS.between(birth, ref);
+    }
+
+    /** 범위("1.2~1.5(Kg)")면 앞 값 */
+    static Integer weightGrams(String raw) {
+        if (raw == null) return null;
+        Matcher m = NUMBER.matcher(raw);
+        if (!m.find()) return null;
+        long grams = Math.round(Double.parseDouble(m.group()) * 1000);
+        return (grams > 0 && grams <= MAX_WEIGHT_GRAMS) ? (int) grams : null;
+    }
+
+    static Species species(String kindCd) {
+        if (kindCd == null) return null;
+        Matcher m = KIND.matcher(kindCd);
+        if (!m.find()) return null;
+        return switch (m.group(1).trim()) {
+            case "개" -> Species.DOG;
+            case "고양이" -> Species.CAT;
+            default -> Species.ETC;
+        };
+    }
+
+    /** 대괄호 축종 표기를 뗀 품종명 (표기가 없으면 원문 그대로) */
+    static String breed(String kindCd) {
+        if (kindCd == null) return null;
+        Matcher m = KIND.matcher(kindCd);
+        String name = (m.find() ? m.group(2) : kindCd).trim();
+        return name.isEmpty() ? null : name;
+    }
+
+    static Sex sex(String sexCd) {
+        if (sexCd == null) return null;
+        return switch (sexCd.trim().toUpperCase()) {
+            case "M" -> Sex.MALE;
+            case "F" -> Sex.FEMALE;
+            default -> Sex.UNKNOWN;
+        };
+    }
+
+    static NeuterStatus neuter(String neuterYn, Sex sex) {
+        if (neuterYn == null) return null;
+        return switch (neuterYn.trim().toUpperCase()) {
+            case "Y" -> sex == Sex.FEMALE ? NeuterStatus.SPAYED : NeuterStatus.NEUTERED;
+            case "N" -> NeuterStatus.INTACT;
+            default -> NeuterStatus.UNKNOWN;
+        };
+    }
+
+    static ProcessState processState(String raw) {
+        if (raw == null) return null;
+        String s = raw.replace(" ", "");
+        if (s.startsWith("공고")) return ProcessState.NOTICE;
+        if (s.startsWith("보호")) return ProcessState.PROTECT;
+        if (!s.startsWith("종료")) return null;
+        if (s.contains("입양")) return ProcessState.ADOPTED;
+        if (s.contains("반환")) return ProcessState.RETURNED;
+        if (s.contains("기증")) return ProcessState.DONATED;
+        if (s.contains("방사")) return ProcessState.RELEASED;
+        if (s.contains("자연사")) return ProcessState.NATURAL_DEATH;
+        if (s.contains("안락사")) return ProcessState.EUTHANASIA;
+        return ProcessState.ENDED;
+    }
+}
@@ -0,0 +1,78 @@
+package com.matchpet.domain.animal.support;
+
+import com.matchpet.external.dto.ExternalResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+
+/**
+ * 외부 레코드 변경 감지용 다이제스트
+ * - 정규화(trim, 빈 문자열 → null)한 Item 값으로 SHA-1 을 만든다.
+ * - 저장된 animals.content_hash 와 같으면 쓰기를 건너뛴다.
+ * - 매핑 규칙이 바뀌어 전체 재반영이 필요하면 VERSION 을 올린다.
+ */
+public final class ContentHash {
+    private ContentHash() {}
+
+    // v2: 매핑 통합(AnimalItemMapper) 후 charge_nm/upr_cd/officetel 재반영
+    // v3: specialMark 분류 컬럼(risk_level 등)·energy_level/temperament 채우기
+    // v4: 원문 정규화 컬럼(age_months, weight_grams, species …) 채우기
+    private static final String VERSION = "v4";
+    private static final char SEP = '\u001F';
+
+    public static String of(ExternalResponse.Item it) {
+        StringBuilder sb = new StringBuilder(512).append(VERSION);
+        append(sb, it.getDesertionNo());
+        append(sb, it.getHappenDt());
+        append(sb, it.getHappenPlace());
+        append(sb, it.getKindCd());
+        append(sb, it.getColorCd());
+        append(sb, it.getAge());
+        append(sb, it.getWeight());
+        append(sb, it.getSexCd());
+        append(sb, it.getNeuterYn());
+        append(sb, it.getSpecialMark());
+        append(sb, it.getCareNm());
+        append(sb, it.getCareTel());
+        append(sb, it.getCareAddr());
+        append(sb, it.getProcessState());
+        append(sb, it.getFilename());
+        append(sb, it.getPopfile());
+        append(sb, it.getPopfile1());
+        append(sb, it.getPopfile2());
+        append(sb, it.getNoticeNo());
+        append(sb, it.getNoticeSdt());
+        append(sb, it.getNoticeEdt());
+        append(sb, it.getUprCd());
+        append(sb, it.getOrgNm());
+        append(sb, it.getChargeNm());
+        append(sb, it.getOfficetel());
+        return sha1(sb.toString());
+    }
+
+    public static String sha1(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] digest = md.digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    private static void append(StringBuilder sb, String v) {
+        sb.append(SEP);
+        if (v != null) sb.append(v.trim());
+    }
+
+    private static void append(StringBuilder sb, LocalDate v) {
+        sb.append(SEP);
+        if (v != null) sb.append(v);
+    }
+}
@@ -10,12 +10,23 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        // V7 과 같은 이름 — 목록 조회는 모두 created_at desc 정렬 + limit
+        @Index(name = "idx_applications_created", columnList = "created_at"),
+        @Index(name = "idx_applications_senior_created", columnList = "senior_id, created_at"),
+        @Index(name = "idx_applications_animal_created", columnList = "animal_id, created_at"),
+        @Index(name = "idx_applications_status_created", columnList = "status, created_at")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Application {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id_sequences 블록 발급(pooled-lo) — IDENTITY 와 달리 여러 건 저장 시 INSERT 가 batch 로 묶인다
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "applications_id")
+    @TableGenerator(name = "applications_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "applications", allocationSize = 50)
     private Long id;
 
     // ---- FK 원시값 컬럼 (DB 반영용) ----
@@ -128,6 +128,7 @@ public class ApplicationService {
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden");
     }
 
+    @Transactional(readOnly = true)
     public org.springframework.data.domain.Page<Application> list(
             Long seniorId, Long animalId, Long shelterId,
             ApplicationStatus status, org.springframework.data.domain.Pageable pageable) {
@@ -140,6 +141,7 @@ public class ApplicationService {
         return repo.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Application get(Long id) {
         return repo.findById(id).orElseThrow(() -> notFound(id));
     }
@@ -0,0 +1,66 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.domain.animal.support.ContentHash;
+import com.matchpet.external.dto.ExternalResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 적재 경로의 단일 키 규칙
+ * - desertionNo 가 있으면 그대로
+ * - 없으면 "H:" + SHA-1(접수일|기관|공고번호|품종) — 사진 URL/파일명은 바뀌므로 키에 넣지 않는다
+ * desertionNo 가 없는 레코드는 예전 규칙의 키도 후보로 돌려준다 (쓰기 단계가 기존 행을 찾아 새 키로 옮김)
+ * - v1: 기관명, 없으면 공고번호 (예전 AnimalIngestService)
+ * - v2: 사진 URL/파일명까지 넣은 해시
+ */
+@Component
+public class AnimalKeyResolver implements IngestKeyResolver {
+
+    @Override
+    public String externalIdOf(ExternalResponse.Item it) {
+        String dn = trimToNull(it.getDesertionNo());
+        if (dn != null) return dn;
+        return hashKey(ymd(it.getHappenDt()), it.getOrgNm(), it.getNoticeNo(), it.getKindCd());
+    }
+
+    @Override
+    public List<String> legacyIdsOf(ExternalResponse.Item it) {
+        if (trimToNull(it.getDesertionNo()) != null) return List.of();
+
+        List<String> ids = new ArrayList<>(2);
+        String v1 = trimToNull(it.getOrgNm());
+        if (v1 == null) v1 = trimToNull(it.getNoticeNo());
+        if (v1 != null) ids.add(v1);
+        String v2 = hashKey(ymd(it.getHappenDt()), it.getOrgNm(), it.getNoticeNo(), it.getKindCd(),
+                it.getFilename(), it.getPopfile());
+        if (v2 != null) ids.add(v2);
+        return ids;
+    }
+
+    /** 식별할 값이 하나도 없으면 null */
+    private static String hashKey(String... parts) {
+        String[] trimmed = new String[parts.length];
+        boolean any = false;
+        for (int i = 0; i < parts.length; i++) {
+            trimmed[i] = nullToEmpty(parts[i]);
+            any |= !trimmed[i].isEmpty();
+        }
+        return any ? "H:" + ContentHash.sha1(String.join("|", trimmed)) : null;
+    }
+
+    private static String ymd(LocalDate d) { return (d == null) ? "" : d.toString().replace("-", ""); }
+
+    private static String nullToEmpty(String s) {
+        String t = trimToNull(s);
+        return (t == null) ? "" : t;
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
@@ -0,0 +1,42 @@
+package com.matchpet.domain.ingest.engine;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/** 적재 집계 — write 스레드만 갱신, 작업 상태 조회 스레드에서 읽으므로 volatile */
+@Getter @ToString
+public class IngestCounters {
+    private volatile int total;
+    private volatile int inserted;
+    private volatile int updated;
+    private volatile int unchanged;
+    private volatile int skipped;
+    /** 원천에서 사라져 CLOSED 로 정리된 행 */
+    private volatile int retired;
+
+    /** 이번 실행에서 본 가장 최근 접수일/공고시작일 (증분 동기화 watermark 용) */
+    private volatile LocalDate maxHappenDt;
+    private volatile LocalDate maxNoticeSdt;
+
+    void addRead(int total, int skipped) {
+        this.total += total;
+        this.skipped += skipped;
+    }
+
+    void addWritten(int inserted, int updated, int unchanged) {
+        this.inserted += inserted;
+        this.updated += updated;
+        this.unchanged += unchanged;
+    }
+
+    void addRetired(int retired) {
+        this.retired += retired;
+    }
+
+    void observe(LocalDate happenDt, LocalDate noticeSdt) {
+        if (happenDt != null && (maxHappenDt == null || happenDt.isAfter(maxHappenDt))) maxHappenDt = happenDt;
+        if (noticeSdt != null && (maxNoticeSdt == null || noticeSdt.isAfter(maxNoticeSdt))) maxNoticeSdt = noticeSdt;
+    }
+}
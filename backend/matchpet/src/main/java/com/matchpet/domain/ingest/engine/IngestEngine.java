@@ -0,0 +1,271 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.mapper.AnimalItemMapper;
+import com.matchpet.domain.animal.support.ContentHash;
+import com.matchpet.domain.ingest.entity.IngestCheckpoint;
+import com.matchpet.domain.ingest.job.IngestProgress;
+import com.matchpet.domain.ingest.service.IngestCheckpointService;
+import com.matchpet.external.dto.ExternalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 적재 엔진 (모든 적재 경로 공통)
+ *
+ * source(fetch) → 키 결정 + 정규화(AnimalItemMapper) + enrich + content_hash (map) → sink(write)
+ * 단계를 스레드로 분리하고 단계 사이는 크기 제한 큐로 넘긴다. 쓰기가 느리면 큐가 차서 fetch 가 멈추므로
+ * 메모리는 일정하게 유지된다. 쓰기는 chunk 마다 커밋하고, 페이지의 마지막 chunk 트랜잭션에서
+ * 체크포인트를 올리므로 실패한 작업은 다음 실행에서 마지막으로 끝난 페이지 다음부터 이어서 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestEngine {
+
+    private final IngestKeyResolver keys;
+    private final AnimalItemMapper mapper;
+    private final ObjectProvider<IngestEnricher> enrichers;
+    private final IngestSink defaultSink; // @Primary = JdbcBatchAnimalSink
+    private final ObjectProvider<IngestSink> sinks;
+    private final AnimalIngestProps ingestProps;
+    private final ThreadPoolTaskExecutor ingestExecutor;
+    private final TransactionTemplate tx;
+    private final IngestCheckpointService checkpoints;
+    private final MeterRegistry meterRegistry;
+
+    public IngestCounters run(IngestSource source, IngestRequest req, IngestProgress progress) {
+        return run(source, defaultSink, req, progress);
+    }
+
+    /** 이름으로 쓰기 단계 선택 (null 이면 기본) */
+    public IngestSink sink(String name) {
+        if (name == null || name.isBlank()) return defaultSink;
+        return sinks.stream().filter(s -> s.name().equals(name)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unknown ingest sink: " + name));
+    }
+
+    /** progress: chunk 커밋마다 진행 상황 통지, 취소 요청 시 다음 chunk 전에 CancellationException */
+    public IngestCounters run(IngestSource source, IngestSink sink, IngestRequest req, IngestProgress progress) {
+        IngestCounters c = new IngestCounters();
+        IngestCheckpoint cp = checkpoints.open(source.name(), req.from(), req.to(), req.uprCd(), req.pageSize());
+        PagePlan plan = PagePlan.resume(cp.getPageSize(), cp.getLastPage(), source.adaptivePaging(), ingestProps.getAdaptive());
+        List<IngestEnricher> stages = enrichers.orderedStream().toList();
+
+        int capacity = Math.max(1, ingestProps.getQueueCapacity());
+        BlockingQueue<Handoff<FetchedChunk>> fetched = new ArrayBlockingQueue<>(capacity);
+        BlockingQueue<Handoff<MappedChunk>> mapped = new ArrayBlockingQueue<>(capacity);
+
+        AtomicBoolean rangeRead = new AtomicBoolean(); // fetch 단계가 totalCount 기준 마지막 페이지까지 읽었는지
+        Integer knownLastPage = (plan.size() == cp.getPageSize()) ? cp.getTotalPages() : null; // 재개 시 이전 실행이 본 마지막 페이지
+        Future<?> fetcher = ingestExecutor.submit(
+                () -> fetchStage(source, req, plan, knownLastPage, progress, fetched, rangeRead));
+        Future<?> mapping = ingestExecutor.submit(() -> mapStage(stages, req.uprCd(), fetched, mapped));
+        try {
+            // write 단계: chunk 마다 커밋 (페이지 마지막 chunk 는 체크포인트와 한 트랜잭션으로)
+            while (true) {
+                if (progress.isCancelled()) throw new CancellationException("ingest cancelled");
+                MappedChunk chunk = mapped.take().get();
+                if (chunk == null) break;
+                tx.executeWithoutResult(status -> {
+                    sink.write(chunk.rows().values(), c);
+                    if (chunk.endOfPage()) checkpoints.advance(cp, chunk.pageNo(), chunk.pageSize(), chunk.totalPages());
+                });
+                c.addRead(chunk.total(), chunk.skipped());
+                progress.onChunk(c, chunk.pageNo(), chunk.totalPages(), chunk.endOfPage());
+            }
+            // 범위를 끝까지 읽었으면 이번 실행(재개 포함, 체크포인트 시작 시각 이후)에 안 보인 행 정리
+            // 중간에 끊긴 실행에서 정리하면 못 받은 페이지의 행이 모두 닫힌다
+            if (source.reconcilable() && rangeRead.get()) {
+                Integer retired = tx.execute(status -> sink.retireUnseen(req, cp.getStartedAt()));
+                c.addRetired(retired != null ? retired : 0);
+            } else if (source.reconcilable()) {
+                log.warn("ingest [{}] range not fully read; skip reconcile", source.name());
+            }
+            checkpoints.complete(cp);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            checkpoints.fail(cp, e);
+            throw new IllegalStateException("ingest interrupted", e);
+        } catch (RuntimeException e) {
+            checkpoints.fail(cp, e);
+            throw e;
+        } finally {
+            // 정상 종료면 이미 끝난 상태, 쓰기 실패면 앞 단계를 깨워서 정리
+            fetcher.cancel(true);
+            mapping.cancel(true);
+        }
+
+        log.info("ingest [{}] done: {}", source.name(), c);
+        return c;
+    }
+
+    // ===== 파이프라인 단계 =====
+
+    /**
+     * fetch: 페이지를 순서대로 받아 chunk 로 큐에 넣는다 (큐가 차 있으면 대기)
+     * 페이지 크기는 PagePlan 이 지연 시간/실패에 따라 조정하고, 크기와 지연 시간은 progress·지표로 남긴다.
+     * lastPage: 현재 크기 기준으로 totalCount 가 알려 준 마지막 페이지 (모르면 null)
+     */
+    private void fetchStage(IngestSource source, IngestRequest req, PagePlan plan, Integer lastPage,
+                            IngestProgress progress, BlockingQueue<Handoff<FetchedChunk>> out, AtomicBoolean rangeRead) {
+        try {
+            while (true) {
+                final int size = plan.size();
+                final int pageNo = plan.pageNo();
+                long[] blocked = { 0 }; // 하류 큐 대기 시간은 지연 시간에서 뺀다
+                long started = System.nanoTime();
+                IngestSource.PageTail tail;
+                try {
+                    tail = source.readPage(req.withPageSize(size), pageNo, items -> {
+                        long t = System.nanoTime();
+                        putUninterruptibly(out, new FetchedChunk(pageNo, size, null, false, items));
+                        blocked[0] += System.nanoTime() - t;
+                    });
+                } catch (RuntimeException e) {
+                    if (plan.shrinkOn(e)) {
+                        log.warn("page {} (numOfRows={}) failed: {} → retry with numOfRows={}",
+                                pageNo, size, e.toString(), plan.size());
+                        lastPage = null; // 다른 크기 기준이라 비교할 수 없음
+                        continue;
+                    }
+                    throw e;
+                }
+                long latencyMs = (System.nanoTime() - started - blocked[0]) / 1_000_000;
+                if (tail == null) {
+                    // 원천에 페이지 자체가 없음 (보관본의 끝)
+                    // totalCount 상 있어야 할 페이지면 보관본이 빠진 것 → 실패 (끝으로 보면 나머지를 조용히 건너뜀)
+                    if (lastPage != null && pageNo <= lastPage) {
+                        throw new IllegalStateException("missing page " + pageNo + " before last page " + lastPage);
+                    }
+                    log.info("no page; stop at pageNo={} (numOfRows={})", pageNo, size);
+                    break;
+                }
+                Timer.builder("animal.ingest.page.fetch")
+                        .tag("source", source.name())
+                        .tag("page_size", String.valueOf(size))
+                        .register(meterRegistry)
+                        .record(latencyMs, TimeUnit.MILLISECONDS);
+                progress.onPageFetched(pageNo, size, latencyMs);
+
+                lastPage = tail.lastPage();
+                if (tail.itemCount() == 0) {
+                    // totalCount 상 아직 남은 페이지가 비어 있으면 원천이 중간에 끊긴 것 → 실패 (체크포인트에서 재개)
+                    if (pageNo <= tail.lastPage()) {
+                        throw new IllegalStateException("empty page " + pageNo + " before last page " + tail.lastPage());
+                    }
+                    log.info("no items; stop at pageNo={} (numOfRows={})", pageNo, size);
+                    rangeRead.set(true);
+                    break;
+                }
+                out.put(Handoff.of(new FetchedChunk(pageNo, size, tail.lastPage(), true, tail.items())));
+                if (pageNo >= tail.lastPage()) {
+                    rangeRead.set(true);
+                    break;
+                }
+                plan.completed(latencyMs);
+                if (plan.size() != size) {
+                    log.info("numOfRows {} → {} (page {} took {}ms)", size, plan.size(), pageNo, latencyMs);
+                    lastPage = null;
+                }
+            }
+            out.put(Handoff.end());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            Handoff.fail(out, e);
+        }
+    }
+
+    /** 파서 콜백(Consumer) 안에서 쓰기 위한 put — 인터럽트는 취소로 바꿔 스트림을 중단시킨다 */
+    private static void putUninterruptibly(BlockingQueue<Handoff<FetchedChunk>> out, FetchedChunk chunk) {
+        try {
+            out.put(Handoff.of(chunk));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("ingest cancelled while streaming");
+        }
+    }
+
+    /** map: 외부 레코드 → 키별 쓰기용 값 객체 */
+    private void mapStage(List<IngestEnricher> stages, String uprCd,
+                          BlockingQueue<Handoff<FetchedChunk>> in,
+                          BlockingQueue<Handoff<MappedChunk>> out) {
+        try {
+            while (true) {
+                FetchedChunk chunk = in.take().get();
+                if (chunk == null) break;
+                out.put(Handoff.of(mapChunk(stages, uprCd, chunk)));
+            }
+            out.put(Handoff.end());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            Handoff.fail(out, e);
+        }
+    }
+
+    /** uprCd: 요청한 시/도 — 응답 item 에는 upr_cd 가 없으므로(요청 필터일 뿐) 비어 있으면 요청 값으로 채운다 */
+    private MappedChunk mapChunk(List<IngestEnricher> stages, String uprCd, FetchedChunk chunk) {
+        // 같은 chunk 안의 중복 키는 마지막 레코드 우선
+        Map<String, Animal> rows = new LinkedHashMap<>();
+        int skipped = 0;
+        for (ExternalResponse.Item it : chunk.items()) {
+            String externalId = keys.externalIdOf(it);
+            if (externalId == null) { skipped++; continue; }
+
+            Animal a = mapper.toAnimal(it); // desertionNo 는 있을 때만 (UPDATE 시 null 이면 기존 값 유지)
+            if (a.getUprCd() == null) a.setUprCd(uprCd); // 지역 정리(retireUnseen)의 upr_cd 조건이 맞도록 (content_hash 에는 넣지 않음)
+            for (IngestEnricher e : stages) e.enrich(it, a);
+            a.setExternalId(externalId);
+            a.setLegacyExternalIds(keys.legacyIdsOf(it));
+            a.setContentHash(ContentHash.of(it));
+            if (rows.put(externalId, a) != null) skipped++;
+        }
+        return new MappedChunk(chunk.pageNo(), chunk.pageSize(), chunk.totalPages(), chunk.endOfPage(),
+                chunk.items().size(), skipped, rows);
+    }
+
+    /** fetch 단계 결과 — totalPages 는 페이지 마지막 chunk(endOfPage)에만 채워진다 */
+    private record FetchedChunk(int pageNo, int pageSize, Integer totalPages, boolean endOfPage,
+                                List<ExternalResponse.Item> items) {}
+
+    /** map 단계 결과: external_id → 쓰기용 값 */
+    private record MappedChunk(int pageNo, int pageSize, Integer totalPages, boolean endOfPage,
+                               int total, int skipped, Map<String, Animal> rows) {}
+
+    /** 단계 간 전달 단위: 값 / 종료 / 앞 단계 실패 */
+    private record Handoff<T>(T value, RuntimeException error) {
+        static <T> Handoff<T> of(T value) { return new Handoff<>(value, null); }
+        static <T> Handoff<T> end() { return new Handoff<>(null, null); }
+
+        /** 실패 시 남은 페이지는 버리고 예외만 전달 (단일 생산자라 비운 뒤 offer 는 항상 성공) */
+        static <T> void fail(BlockingQueue<Handoff<T>> q, RuntimeException e) {
+            q.clear();
+            q.offer(new Handoff<>(null, e));
+        }
+
+        /** 값(종료면 null)을 꺼내고, 앞 단계가 실패했으면 그 예외를 다시 던진다 */
+        T get() {
+            if (error != null) throw error;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.external.dto.ExternalResponse;
+
+/** 정규화 이후 파생 값 채우기 (map 단계, @Order 순서대로) */
+public interface IngestEnricher {
+
+    void enrich(ExternalResponse.Item source, Animal target);
+}
@@ -0,0 +1,14 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.external.dto.ExternalResponse;
+
+import java.util.List;
+
+/** 외부 레코드 → 내부 고유키(animals.external_id). null 이면 적재하지 않는다 */
+public interface IngestKeyResolver {
+
+    String externalIdOf(ExternalResponse.Item it);
+
+    /** 예전 키 규칙으로 저장됐을 수 있는 external_id 후보 — 새 키로 못 찾으면 이 값으로 기존 행을 찾는다 */
+    default List<String> legacyIdsOf(ExternalResponse.Item it) { return List.of(); }
+}
@@ -0,0 +1,11 @@
+package com.matchpet.domain.ingest.engine;
+
+import java.time.LocalDate;
+
+/** 적재 범위 (uprCd 가 null 이면 전체 지역) */
+public record IngestRequest(LocalDate from, LocalDate to, String uprCd, int pageSize) {
+
+    IngestRequest withPageSize(int size) {
+        return new IngestRequest(from, to, uprCd, size);
+    }
+}
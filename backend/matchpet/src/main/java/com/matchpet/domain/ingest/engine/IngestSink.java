@@ -0,0 +1,21 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.domain.animal.entity.Animal;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/** 쓰기 단계 — chunk 트랜잭션 안에서 호출된다 (rows 는 external_id 기준 중복 제거됨) */
+public interface IngestSink {
+
+    /** 작업 요청/상태에 쓰는 이름 (batch, bulk …) */
+    String name();
+
+    void write(Collection<Animal> rows, IngestCounters counters);
+
+    /**
+     * 범위를 끝까지 읽은 뒤 호출 (별도 트랜잭션) — seenSince 이후 write 에서 보지 못한 행을 정리하고 건수를 돌려준다.
+     * 기본은 아무것도 하지 않는다.
+     */
+    default int retireUnseen(IngestRequest req, LocalDateTime seenSince) { return 0; }
+}
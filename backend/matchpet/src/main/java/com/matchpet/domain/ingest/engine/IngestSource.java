@@ -0,0 +1,33 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.external.dto.ExternalResponse;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/** 적재 원천 (fetch 단계) */
+public interface IngestSource {
+
+    /** 체크포인트/작업 키에 쓰는 이름 */
+    String name();
+
+    /**
+     * pageNo 페이지를 읽는다.
+     * 스트리밍 원천은 읽는 도중 item 묶음을 emit 으로 먼저 넘길 수 있다(넘긴 리스트는 재사용하지 말 것).
+     * 오류 응답(resultCode ≠ "00")이나 해석할 수 없는 페이지는 빈 페이지로 바꾸지 말고 예외로 올린다.
+     * @return 남은 item, 페이지 item 수(emit 으로 넘긴 것 포함), totalCount 로 계산한 마지막 페이지 번호
+     *         (빈 페이지도 PageTail 로). 원천에 그 페이지 자체가 없으면(보관본의 끝) null
+     */
+    PageTail readPage(IngestRequest req, int pageNo, Consumer<List<ExternalResponse.Item>> emit);
+
+    /** numOfRows 를 실행 중에 조정해도 되는지 (보관본 재생처럼 페이지 경계가 고정된 원천은 false) */
+    default boolean adaptivePaging() { return false; }
+
+    /**
+     * 끝까지 읽은 범위가 원천의 현재 목록 전체인지 — true 면 실행 후 이번에 안 보인 행을 정리한다.
+     * (보관본 재생은 과거 스냅샷이므로 false)
+     */
+    default boolean reconcilable() { return false; }
+
+    record PageTail(int lastPage, int itemCount, List<ExternalResponse.Item> items) {}
+}
@@ -0,0 +1,113 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.repository.AnimalBulkRepository;
+import com.matchpet.domain.animal.repository.AnimalKeyView;
+import com.matchpet.domain.animal.repository.AnimalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기본 쓰기 단계: chunk 단위 업서트
+ * - 키 조회: desertion_no / external_id(예전 키 규칙 후보 포함)를 한 번의 IN 조회로 식별
+ * - 변경 감지: 저장된 content_hash 와 같으면(키도 동일) 쓰기 생략
+ * - 쓰기: 신규/기존을 나눠 JDBC batch 로 한 번에 반영
+ * - last_seen_at: 쓴 행은 INSERT/UPDATE 에서, 변경 없는 행은 id IN 한 줄 UPDATE 로 갱신
+ * - 정리: 범위 안에서 이번 실행에 안 보인 AVAILABLE 행을 한 번의 UPDATE 로 CLOSED 처리
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class JdbcBatchAnimalSink implements IngestSink {
+
+    public static final String NAME = "batch";
+
+    private final AnimalRepository repo;
+    private final AnimalBulkRepository bulkRepo;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void write(Collection<Animal> rows, IngestCounters c) {
+        if (rows.isEmpty()) return;
+
+        Set<String> externalIds = new HashSet<>();
+        Set<String> desertionNos = new HashSet<>();
+        for (Animal a : rows) {
+            externalIds.add(a.getExternalId());
+            externalIds.addAll(a.getLegacyExternalIds());
+            if (a.getDesertionNo() != null) desertionNos.add(a.getDesertionNo());
+        }
+
+        // 1) desertion_no 우선, 2) external_id 로 기존 행 식별
+        Map<String, AnimalKeyView> byDn = new HashMap<>();
+        Map<String, AnimalKeyView> byExt = new HashMap<>();
+        for (AnimalKeyView k : repo.findKeys(externalIds, desertionNos)) {
+            if (k.getDesertionNo() != null) byDn.putIfAbsent(k.getDesertionNo(), k);
+            byExt.put(k.getExternalId(), k);
+        }
+
+        // 3) 새 키로 없으면 예전 키 규칙 후보로 (한 기존 행은 한 레코드만 가져간다)
+        // 4) 없으면 신규, 있으면 갱신 (기존 행이 예전에 다른 external_id로 들어간 경우 UPDATE 에서 보정)
+        LocalDateTime now = LocalDateTime.now();
+        List<Animal> inserts = new ArrayList<>();
+        List<Animal> updates = new ArrayList<>();
+        Map<String, List<Long>> unchanged = new HashMap<>(); // 요청 지역(upr_cd)별 — 보통 한 묶음
+        Set<Long> claimed = new HashSet<>();
+        for (Animal a : rows) {
+            c.observe(a.getHappenDt(), a.getNoticeSdt());
+            a.setLastSeenAt(now);
+            AnimalKeyView hit = (a.getDesertionNo() != null) ? byDn.get(a.getDesertionNo()) : null;
+            if (hit == null) hit = byExt.get(a.getExternalId());
+            if (hit == null) {
+                for (String legacy : a.getLegacyExternalIds()) {
+                    AnimalKeyView k = byExt.get(legacy);
+                    if (k != null && claimed.add(k.getId())) { hit = k; break; }
+                }
+            }
+            if (hit == null) {
+                inserts.add(a);
+            } else if (unchanged(hit, a)) {
+                unchanged.computeIfAbsent(a.getUprCd(), k -> new ArrayList<>()).add(hit.getId());
+            } else {
+                a.setId(hit.getId());
+                updates.add(a);
+            }
+        }
+
+        int same = 0;
+        for (Map.Entry<String, List<Long>> e : unchanged.entrySet()) {
+            bulkRepo.touchSeen(e.getValue(), now, e.getKey());
+            same += e.getValue().size();
+        }
+        c.addWritten(bulkRepo.insertAll(inserts), bulkRepo.updateAll(updates), same);
+    }
+
+    @Override
+    public int retireUnseen(IngestRequest req, LocalDateTime seenSince) {
+        int retired = bulkRepo.retireUnseen(req.uprCd(), req.from(), req.to(), seenSince);
+        log.info("reconcile [{}~{} {}]: retired {} rows not seen since {}",
+                req.from(), req.to(), req.uprCd() != null ? req.uprCd() : "ALL", retired, seenSince);
+        return retired;
+    }
+
+    private static boolean unchanged(AnimalKeyView stored, Animal incoming) {
+        return incoming.getContentHash().equals(stored.getContentHash())
+                && incoming.getExternalId().equals(stored.getExternalId());
+    }
+}
@@ -0,0 +1,57 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.repository.AnimalBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대량 적재 쓰기 단계 (초기 적재 / 재해 복구 재적재용)
+ * - chunk 를 TSV 스풀 파일로 쓰고 LOAD DATA LOCAL INFILE 로 스테이징에 실은 뒤 external_id 기준 한 문장 병합
+ * - 행 단위 왕복이 없으므로 chunk 가 클수록 유리하다 (animal.ingest.chunk-size / streaming=false 로 페이지 단위)
+ * - 정리(retireUnseen)는 JDBC batch 경로와 같다
+ * - desertionNo 가 없어 예전 키 규칙 후보가 있는 행은 JDBC batch 경로로 보낸다 (기존 행을 찾아 새 키로 옮기는 보정)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadDataAnimalSink implements IngestSink {
+
+    public static final String NAME = "bulk";
+
+    private final AnimalBulkRepository bulkRepo;
+    private final JdbcBatchAnimalSink batchSink;
+    private final AnimalIngestProps props;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void write(Collection<Animal> rows, IngestCounters c) {
+        if (rows.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        List<Animal> staged = new ArrayList<>(rows.size());
+        List<Animal> legacy = new ArrayList<>();
+        for (Animal a : rows) {
+            c.observe(a.getHappenDt(), a.getNoticeSdt());
+            a.setLastSeenAt(now);
+            (a.getLegacyExternalIds().isEmpty() ? staged : legacy).add(a);
+        }
+        batchSink.write(legacy, c);
+        int[] n = bulkRepo.mergeViaStaging(staged, Path.of(props.getBulk().getSpoolDir()));
+        c.addWritten(n[0], n[1], n[2]);
+    }
+
+    @Override
+    public int retireUnseen(IngestRequest req, LocalDateTime seenSince) {
+        return batchSink.retireUnseen(req, seenSince);
+    }
+}
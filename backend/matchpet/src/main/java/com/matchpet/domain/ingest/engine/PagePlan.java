@@ -0,0 +1,93 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.config.AnimalIngestProps;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 한 번의 적재 실행에서 요청할 페이지(numOfRows, pageNo) 결정
+ *
+ * 외부 API 페이징은 (pageNo - 1) × numOfRows 행 offset 이므로 크기를 바꿔도 같은 offset 에서 이어 받아야 한다.
+ * 그래서 크기는 최대값을 절반씩 줄인 단계(예: 1000 → 500 → 250 → 125)만 쓰고,
+ * 키울 때는 현재 offset 이 더 큰 크기로 나누어떨어질 때만 키운다.
+ * - 느리거나(slowMs 초과) 타임아웃/메모리 한도 초과로 실패하면 한 단계 줄여 같은 offset 을 다시 받는다.
+ * - growAfter 페이지 연속으로 빠르면(fastMs 이하) 한 단계 키운다.
+ */
+final class PagePlan {
+
+    private final int[] ladder;           // 내림차순
+    private final AnimalIngestProps.Adaptive cfg;
+    private int step;
+    private long offset;
+    private int fastStreak;
+
+    private PagePlan(int[] ladder, int step, long offset, AnimalIngestProps.Adaptive cfg) {
+        this.ladder = ladder;
+        this.step = step;
+        this.offset = offset;
+        this.cfg = cfg;
+    }
+
+    /** 체크포인트(lastPage × pageSize 까지 커밋됨)에서 시작 */
+    static PagePlan resume(int pageSize, int lastPage, boolean adaptive, AnimalIngestProps.Adaptive cfg) {
+        long offset = (long) lastPage * pageSize;
+        if (adaptive && cfg.isEnabled()) {
+            int[] ladder = ladder(cfg);
+            for (int i = 0; i < ladder.length; i++) {
+                if (ladder[i] <= pageSize && offset % ladder[i] == 0) return new PagePlan(ladder, i, offset, cfg);
+            }
+        }
+        return new PagePlan(new int[] { pageSize }, 0, offset, null); // 고정 크기
+    }
+
+    private static int[] ladder(AnimalIngestProps.Adaptive cfg) {
+        List<Integer> steps = new ArrayList<>();
+        for (int s = cfg.getMaxPageSize(); s >= Math.max(1, cfg.getMinPageSize()); s /= 2) steps.add(s);
+        if (steps.isEmpty()) steps.add(cfg.getMaxPageSize());
+        return steps.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    int size() { return ladder[step]; }
+
+    int pageNo() { return (int) (offset / size()) + 1; }
+
+    /** 페이지를 다 받은 뒤 — offset 을 넘기고 지연 시간으로 다음 크기를 정한다 */
+    void completed(long latencyMs) {
+        offset += size();
+        if (cfg == null) return;
+
+        if (latencyMs > cfg.getSlowMs()) {
+            fastStreak = 0;
+            if (step < ladder.length - 1) step++;
+        } else if (latencyMs <= cfg.getFastMs()) {
+            fastStreak++;
+            if (fastStreak >= cfg.getGrowAfter() && step > 0 && offset % ladder[step - 1] == 0) {
+                step--;
+                fastStreak = 0;
+            }
+        } else {
+            fastStreak = 0;
+        }
+    }
+
+    /** 크기 때문에 실패한 것으로 보이면 한 단계 줄이고 true (같은 offset 을 다시 받으면 됨) */
+    boolean shrinkOn(Throwable e) {
+        if (cfg == null || step >= ladder.length - 1 || !tooHeavy(e)) return false;
+        step++;
+        fastStreak = 0;
+        return true;
+    }
+
+    private static boolean tooHeavy(Throwable t) {
+        for (Throwable c = t; c != null; c = (c.getCause() == c) ? null : c.getCause()) {
+            if (c instanceof DataBufferLimitException) return true;
+            if (c instanceof TimeoutException || c instanceof io.netty.handler.timeout.TimeoutException) return true;
+            if (c instanceof WebClientResponseException e && e.getStatusCode().value() == 504) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.matchpet.domain.ingest.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 적재 재개 지점 (range + uprCd 단위)
+ * - 페이지 쓰기와 같은 트랜잭션에서 lastPage 를 올리므로, 실패 후 재실행하면 lastPage + 1 부터 이어서 받는다.
+ * - 커밋된 위치는 lastPage × pageSize 행. 적응형 페이지 크기로 크기가 바뀌면 두 값을 함께 갱신하고,
+ *   재개 시에는 저장된 pageSize 로 이어 받는다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "ingest_checkpoints")
+public class IngestCheckpoint {
+
+    public enum Status { RUNNING, FAILED, DONE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** source|from|to|uprCd */
+    @Column(name = "job_key", nullable = false, unique = true, length = 120)
+    private String jobKey;
+
+    @Column(nullable = false, length = 40)
+    private String source;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Column(name = "upr_cd", length = 20)
+    private String uprCd;
+
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    /** 마지막으로 커밋된 페이지 (0 = 아직 없음) */
+    @Column(name = "last_page", nullable = false)
+    private int lastPage;
+
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static String keyOf(String source, LocalDate from, LocalDate to, String uprCd) {
+        return source + "|" + from + "|" + to + "|" + (uprCd == null || uprCd.isBlank() ? "ALL" : uprCd.trim());
+    }
+}
@@ -0,0 +1,87 @@
+package com.matchpet.domain.ingest.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분산 적재 작업 단위 (backfill 의 upr_cd × 기간 조각)
+ * - 워커는 PENDING 이거나 lease 가 만료된 RUNNING shard 를 조건부 UPDATE 로 점유한다 (먼저 바꾼 쪽이 가져감).
+ * - 실행 중에는 lease 를 연장하고, 연장에 실패하면(다른 워커가 가져감) 실행을 멈춘다.
+ * - 같은 행을 두 워커가 써도 external_id 업서트라 결과는 같다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "ingest_shards",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ingest_shards_slot", columnNames = {"backfill_key", "upr_cd", "from_date"}),
+       indexes = @Index(name = "idx_ingest_shards_claim", columnList = "status, lease_until"))
+public class IngestShard {
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "backfill_key", nullable = false, length = 120)
+    private String backfillKey;
+
+    @Column(nullable = false, length = 40)
+    private String source;
+
+    /** 시/도 코드, 전체면 IngestWatermark.ALL */
+    @Column(name = "upr_cd", nullable = false, length = 20)
+    private String uprCd;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    /** 쓰기 방식 (IngestSink.name, null 이면 기본) */
+    @Column(length = 20)
+    private String sink;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /** 점유한 워커 (pid@host/thread) */
+    @Column(length = 120)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "total_rows")
+    private Integer totalRows;
+
+    private Integer inserted;
+    private Integer updated;
+    private Integer retired;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** 엔진 요청용 upr_cd (ALL → null) */
+    public String requestUprCd() {
+        return IngestWatermark.ALL.equals(uprCd) ? null : uprCd;
+    }
+}
@@ -0,0 +1,56 @@
+package com.matchpet.domain.ingest.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 동기화 high-water mark (source + uprCd 단위)
+ * - highWaterDt: 지금까지 받은 데이터 중 가장 최근 접수일/공고시작일 (줄어들지 않음)
+ *   성공한 창에서 더 새로운 데이터가 없었으면 그 창의 종료일까지 올린다
+ * - lastSuccessTo: 마지막으로 끝까지 성공한 실행의 조회 종료일
+ * 다음 실행은 min(highWaterDt, lastSuccessTo) - overlap 부터 오늘까지만 받는다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "ingest_watermarks",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ingest_watermarks_source_region", columnNames = {"source", "upr_cd"}))
+public class IngestWatermark {
+
+    /** 전체(시/도 미지정) 동기화의 upr_cd 값 */
+    public static final String ALL = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String source;
+
+    @Column(name = "upr_cd", nullable = false, length = 20)
+    private String uprCd;
+
+    @Column(name = "high_water_dt")
+    private LocalDate highWaterDt;
+
+    @Column(name = "last_success_to")
+    private LocalDate lastSuccessTo;
+
+    @Column(name = "last_success_at")
+    private LocalDateTime lastSuccessAt;
+
+    /** 마지막 실행 요약 (rows / 오류) */
+    @Column(name = "last_rows")
+    private Integer lastRows;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static String regionOf(String uprCd) {
+        return (uprCd == null || uprCd.isBlank()) ? ALL : uprCd.trim();
+    }
+}
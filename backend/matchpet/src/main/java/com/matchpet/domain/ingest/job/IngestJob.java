@@ -0,0 +1,143 @@
+package com.matchpet.domain.ingest.job;
+
+import com.matchpet.domain.ingest.engine.IngestCounters;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/** 백그라운드 적재 작업 1건 (메모리 보관, 상태 조회용) */
+@Getter
+public class IngestJob implements IngestProgress {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private final String id = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private final String key;
+    private final String source;
+    private final String sink;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String uprCd;
+    private final int pageSize;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile IngestCounters counters;
+    private volatile int pagesDone;
+    private volatile int lastPage;
+    private volatile Integer totalPages;
+    private volatile int currentPageSize;
+    private volatile long lastFetchMs;
+    private volatile String error;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.PACKAGE)
+    private volatile Future<?> future;
+
+    /** 성공 시 후처리 (증분 동기화 watermark 갱신 등) */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private volatile Consumer<IngestCounters> onSuccess;
+
+    IngestJob(String key, String source, String sink, LocalDate from, LocalDate to, String uprCd, int pageSize) {
+        this.key = key;
+        this.source = source;
+        this.sink = sink;
+        this.from = from;
+        this.to = to;
+        this.uprCd = uprCd;
+        this.pageSize = pageSize;
+    }
+
+    // ===== IngestProgress =====
+    @Override
+    public boolean isCancelled() { return cancelRequested; }
+
+    @Override
+    public void onChunk(IngestCounters c, int pageNo, Integer totalPages, boolean endOfPage) {
+        this.counters = c;
+        if (endOfPage) {
+            this.pagesDone++;
+            this.lastPage = pageNo;
+            this.totalPages = totalPages;
+        }
+    }
+
+    @Override
+    public void onPageFetched(int pageNo, int pageSize, long latencyMs) {
+        this.currentPageSize = pageSize;
+        this.lastFetchMs = latencyMs;
+    }
+
+    // ===== 상태 전이 (IngestJobService 에서만) =====
+    void markStarted() { startedAt = Instant.now(); status = Status.RUNNING; }
+    void markSucceeded(IngestCounters c) { counters = c; finish(Status.SUCCEEDED); }
+    void markCancelled() { finish(Status.CANCELLED); }
+    void markFailed(Throwable e) { error = String.valueOf(e.getMessage()); finish(Status.FAILED); }
+    void requestCancel() { cancelRequested = true; }
+    boolean cancelIfQueued() { return future != null && future.cancel(false); }
+
+    private void finish(Status s) { finishedAt = Instant.now(); status = s; }
+
+    public boolean isActive() { return status == Status.QUEUED || status == Status.RUNNING; }
+
+    /** 상태 API 응답 — 처리 속도(rows/s)와 남은 페이지 기준 ETA 포함 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("jobId", id);
+        m.put("status", status.name());
+        m.put("source", source);
+        m.put("sink", sink);
+        m.put("from", from.toString());
+        m.put("to", to.toString());
+        m.put("region", uprCd);
+        m.put("pageSize", pageSize);
+        m.put("submittedAt", submittedAt.toString());
+        m.put("startedAt", startedAt != null ? startedAt.toString() : null);
+        m.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+        m.put("pagesDone", pagesDone);
+        m.put("lastPage", lastPage);
+        m.put("totalPages", totalPages);
+        m.put("currentPageSize", currentPageSize);
+        m.put("lastFetchMs", lastFetchMs);
+
+        IngestCounters c = counters;
+        m.put("total", c != null ? c.getTotal() : 0);
+        m.put("inserted", c != null ? c.getInserted() : 0);
+        m.put("updated", c != null ? c.getUpdated() : 0);
+        m.put("unchanged", c != null ? c.getUnchanged() : 0);
+        m.put("skipped", c != null ? c.getSkipped() : 0);
+        m.put("retired", c != null ? c.getRetired() : 0);
+
+        double elapsedSec = elapsed().toMillis() / 1000.0;
+        m.put("rowsPerSec", (c != null && elapsedSec > 0) ? Math.round(c.getTotal() / elapsedSec * 10) / 10.0 : null);
+        m.put("etaSeconds", etaSeconds(elapsedSec));
+        m.put("cancelRequested", cancelRequested);
+        m.put("error", error);
+        return m;
+    }
+
+    private Duration elapsed() {
+        if (startedAt == null) return Duration.ZERO;
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now());
+    }
+
+    private Long etaSeconds(double elapsedSec) {
+        Integer tp = totalPages;
+        if (status != Status.RUNNING || tp == null || pagesDone == 0) return null;
+        int remaining = Math.max(0, tp - lastPage);
+        return Math.round(elapsedSec / pagesDone * remaining);
+    }
+}
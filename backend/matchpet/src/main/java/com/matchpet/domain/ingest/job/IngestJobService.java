@@ -0,0 +1,143 @@
+package com.matchpet.domain.ingest.job;
+
+import com.matchpet.domain.ingest.engine.IngestCounters;
+import com.matchpet.domain.ingest.engine.IngestEngine;
+import com.matchpet.domain.ingest.engine.IngestRequest;
+import com.matchpet.domain.ingest.engine.IngestSink;
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.domain.ingest.entity.IngestCheckpoint;
+import com.matchpet.domain.ingest.source.AbandonmentApiSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 적재 작업 레지스트리
+ * - 작업은 ingestJobExecutor 에서 실행 (동시 실행 수 = animal.ingest.max-concurrent-jobs, 초과분은 대기열)
+ * - 같은 source + range + uprCd 가 이미 대기/실행 중이면 새로 만들지 않고 기존 작업을 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestJobService {
+
+    private static final int KEEP_FINISHED = 100;
+
+    private final IngestEngine engine;
+    private final AbandonmentApiSource apiSource;
+    private final ThreadPoolTaskExecutor ingestJobExecutor;
+
+    private final Map<String, IngestJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, IngestJob> activeByKey = new ConcurrentHashMap<>();
+
+    public record Submission(IngestJob job, boolean deduplicated) {}
+
+    public Submission submit(LocalDate from, LocalDate to, String uprCd, int pageSize) {
+        return submit(apiSource, from, to, uprCd, pageSize, null);
+    }
+
+    public Submission submit(LocalDate from, LocalDate to, String uprCd, int pageSize,
+                             Consumer<IngestCounters> onSuccess) {
+        return submit(apiSource, from, to, uprCd, pageSize, onSuccess);
+    }
+
+    public Submission submit(IngestSource source, LocalDate from, LocalDate to, String uprCd, int pageSize,
+                             Consumer<IngestCounters> onSuccess) {
+        return submit(source, engine.sink(null), from, to, uprCd, pageSize, onSuccess);
+    }
+
+    /**
+     * sink: 쓰기 방식 (기본 batch, 대량 적재는 bulk). 같은 범위는 쓰기 방식과 관계없이 하나만 실행한다.
+     * onSuccess: 작업이 끝까지 성공했을 때만 작업 스레드에서 호출 (중복 제출로 기존 작업을 돌려받으면 걸리지 않음)
+     */
+    public synchronized Submission submit(IngestSource source, IngestSink sink, LocalDate from, LocalDate to,
+                                          String uprCd, int pageSize, Consumer<IngestCounters> onSuccess) {
+        String key = IngestCheckpoint.keyOf(source.name(), from, to, uprCd);
+        IngestJob active = activeByKey.get(key);
+        if (active != null) return new Submission(active, true);
+
+        IngestJob job = new IngestJob(key, source.name(), sink.name(), from, to, uprCd, pageSize);
+        job.setOnSuccess(onSuccess);
+        jobs.put(job.getId(), job);
+        activeByKey.put(key, job);
+        try {
+            job.setFuture(ingestJobExecutor.submit(() -> run(source, sink, job)));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            activeByKey.remove(key, job);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many ingest jobs queued");
+        }
+        prune();
+        log.info("ingest job {} submitted: {}", job.getId(), key);
+        return new Submission(job, false);
+    }
+
+    public Optional<IngestJob> get(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public List<IngestJob> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(IngestJob::getSubmittedAt).reversed())
+                .toList();
+    }
+
+    /** 대기 중이면 바로 취소, 실행 중이면 다음 chunk 경계에서 중단 (체크포인트는 남아 재개 가능) */
+    public Optional<IngestJob> cancel(String id) {
+        IngestJob job = jobs.get(id);
+        if (job == null) return Optional.empty();
+        job.requestCancel();
+        if (job.getStatus() == IngestJob.Status.QUEUED && job.cancelIfQueued()) {
+            job.markCancelled();
+            activeByKey.remove(job.getKey(), job);
+        }
+        return Optional.of(job);
+    }
+
+    private void run(IngestSource source, IngestSink sink, IngestJob job) {
+        if (job.isCancelRequested()) {
+            job.markCancelled();
+            activeByKey.remove(job.getKey(), job);
+            return;
+        }
+        job.markStarted();
+        try {
+            var req = new IngestRequest(job.getFrom(), job.getTo(), job.getUprCd(), job.getPageSize());
+            IngestCounters c = engine.run(source, sink, req, job);
+            job.markSucceeded(c);
+            if (job.getOnSuccess() != null) job.getOnSuccess().accept(c);
+        } catch (CancellationException e) {
+            log.info("ingest job {} cancelled", job.getId());
+            job.markCancelled();
+        } catch (RuntimeException e) {
+            log.error("ingest job {} failed", job.getId(), e);
+            job.markFailed(e);
+        } finally {
+            activeByKey.remove(job.getKey(), job);
+        }
+    }
+
+    /** 끝난 작업은 최근 KEEP_FINISHED 건만 보관 */
+    private void prune() {
+        List<IngestJob> finished = jobs.values().stream()
+                .filter(j -> !j.isActive())
+                .sorted(Comparator.comparing(IngestJob::getSubmittedAt).reversed())
+                .toList();
+        for (int i = KEEP_FINISHED; i < finished.size(); i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+}
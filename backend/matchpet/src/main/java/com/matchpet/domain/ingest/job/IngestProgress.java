@@ -0,0 +1,16 @@
+package com.matchpet.domain.ingest.job;
+
+import com.matchpet.domain.ingest.engine.IngestCounters;
+
+/** 적재 진행 콜백 — write 단계(chunk 커밋 직후)에서 호출되고, 취소 여부를 chunk 사이마다 확인한다 */
+public interface IngestProgress {
+
+    IngestProgress NONE = new IngestProgress() {};
+
+    default boolean isCancelled() { return false; }
+
+    default void onChunk(IngestCounters counters, int pageNo, Integer totalPages, boolean endOfPage) {}
+
+    /** fetch 단계에서 페이지를 다 받았을 때 (요청한 numOfRows, 하류 대기를 뺀 응답 시간) */
+    default void onPageFetched(int pageNo, int pageSize, long latencyMs) {}
+}
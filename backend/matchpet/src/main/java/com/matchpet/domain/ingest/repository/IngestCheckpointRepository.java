@@ -0,0 +1,38 @@
+package com.matchpet.domain.ingest.repository;
+
+import com.matchpet.domain.ingest.entity.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, Long> {
+
+    Optional<IngestCheckpoint> findByJobKey(String jobKey);
+
+    // 페이지 커밋과 같은 트랜잭션에서 호출 (엔티티를 올리지 않고 한 줄 UPDATE)
+    // 페이지 크기가 실행 중에 바뀔 수 있으므로 진행 여부는 행 offset(lastPage × pageSize)으로 비교한다
+    @Modifying
+    @Query("update IngestCheckpoint c set c.lastPage = :pageNo, c.pageSize = :pageSize, " +
+           "c.totalPages = :totalPages, c.updatedAt = :now " +
+           "where c.id = :id and c.lastPage * c.pageSize < :pageNo * :pageSize")
+    int advance(@Param("id") Long id, @Param("pageNo") int pageNo, @Param("pageSize") int pageSize,
+                @Param("totalPages") Integer totalPages, @Param("now") LocalDateTime now);
+
+    // 끝난 체크포인트 정리 (증분 동기화 창마다 새 키가 생기므로) — uprCd null 은 전체(ALL) 실행
+    @Modifying
+    @Query("delete from IngestCheckpoint c where c.source = :source " +
+           "and ((:uprCd is null and c.uprCd is null) or c.uprCd = :uprCd) " +
+           "and c.status = :done and c.toDate < :before")
+    int deleteFinished(@Param("source") String source, @Param("uprCd") String uprCd,
+                       @Param("done") IngestCheckpoint.Status done, @Param("before") LocalDate before);
+
+    @Modifying
+    @Query("update IngestCheckpoint c set c.status = :status, c.lastError = :error, c.updatedAt = :now where c.id = :id")
+    int finish(@Param("id") Long id, @Param("status") IngestCheckpoint.Status status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+}
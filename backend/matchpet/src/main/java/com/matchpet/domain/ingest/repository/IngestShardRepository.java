@@ -0,0 +1,72 @@
+package com.matchpet.domain.ingest.repository;
+
+import com.matchpet.domain.ingest.entity.IngestShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IngestShardRepository extends JpaRepository<IngestShard, Long> {
+
+    List<IngestShard> findByBackfillKeyOrderByIdAsc(String backfillKey);
+
+    boolean existsByBackfillKey(String backfillKey);
+
+    // lease 시각은 모두 DB now(6) 기준 — 워커마다 시계가 달라도 만료 판정이 같다 (DbLeaseLock 과 같은 방식)
+
+    // 점유 후보: 대기 중이거나 lease 가 만료된 실행 중 shard (시도 횟수 한도 안)
+    @Query(value = "select id from ingest_shards " +
+                   "where attempts < :maxAttempts " +
+                   "and (status = 'PENDING' or (status = 'RUNNING' and lease_until < now(6))) " +
+                   "order by id limit :limit",
+           nativeQuery = true)
+    List<Long> findClaimable(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    // 조건부 점유 — 후보 조회 이후 다른 워커가 먼저 가져갔으면 0
+    @Modifying
+    @Query(value = "update ingest_shards set status = 'RUNNING', owner = :owner, " +
+                   "lease_until = now(6) + interval :leaseSeconds second, " +
+                   "attempts = attempts + 1, last_error = null, updated_at = now(6) " +
+                   "where id = :id and attempts < :maxAttempts " +
+                   "and (status = 'PENDING' or (status = 'RUNNING' and lease_until < now(6)))",
+           nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("leaseSeconds") int leaseSeconds,
+              @Param("maxAttempts") int maxAttempts);
+
+    // 시도 횟수를 다 쓴 채 lease 가 만료된 실행 중 shard → FAILED (점유 후보에서 빠지므로 그대로 두면 영원히 RUNNING)
+    @Modifying
+    @Query(value = "update ingest_shards set status = 'FAILED', owner = null, lease_until = null, " +
+                   "last_error = coalesce(last_error, 'lease expired after max attempts'), updated_at = now(6) " +
+                   "where status = 'RUNNING' and lease_until < now(6) and attempts >= :maxAttempts",
+           nativeQuery = true)
+    int failExhausted(@Param("maxAttempts") int maxAttempts);
+
+    // lease 연장 — 여전히 내 것일 때만
+    @Modifying
+    @Query(value = "update ingest_shards set lease_until = now(6) + interval :leaseSeconds second, updated_at = now(6) " +
+                   "where id = :id and owner = :owner and status = 'RUNNING'",
+           nativeQuery = true)
+    int renew(@Param("id") Long id, @Param("owner") String owner, @Param("leaseSeconds") int leaseSeconds);
+
+    @Modifying
+    @Query("update IngestShard s set s.status = :status, s.leaseUntil = null, s.totalRows = :total, " +
+           "s.inserted = :inserted, s.updated = :updated, s.retired = :retired, s.updatedAt = :now " +
+           "where s.id = :id and s.owner = :owner and s.status = :running")
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("status") IngestShard.Status status,
+               @Param("total") int total, @Param("inserted") int inserted, @Param("updated") int updated,
+               @Param("retired") int retired, @Param("now") LocalDateTime now,
+               @Param("running") IngestShard.Status running);
+
+    // 실패 — 시도 횟수가 남았으면 PENDING 으로 돌려 다른 워커가 다시 가져가게
+    @Modifying
+    @Query("update IngestShard s set s.status = case when s.attempts < :maxAttempts then :pending else :failed end, " +
+           "s.owner = null, s.leaseUntil = null, s.lastError = :error, s.updatedAt = :now " +
+           "where s.id = :id and s.owner = :owner and s.status = :running")
+    int fail(@Param("id") Long id, @Param("owner") String owner, @Param("error") String error,
+             @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now,
+             @Param("pending") IngestShard.Status pending, @Param("failed") IngestShard.Status failed,
+             @Param("running") IngestShard.Status running);
+}
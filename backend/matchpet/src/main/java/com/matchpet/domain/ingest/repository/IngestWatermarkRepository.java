@@ -0,0 +1,11 @@
+package com.matchpet.domain.ingest.repository;
+
+import com.matchpet.domain.ingest.entity.IngestWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface IngestWatermarkRepository extends JpaRepository<IngestWatermark, Long> {
+
+    Optional<IngestWatermark> findBySourceAndUprCd(String source, String uprCd);
+}
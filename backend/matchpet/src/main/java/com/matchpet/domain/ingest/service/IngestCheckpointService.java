@@ -0,0 +1,81 @@
+package com.matchpet.domain.ingest.service;
+
+import com.matchpet.domain.ingest.entity.IngestCheckpoint;
+import com.matchpet.domain.ingest.repository.IngestCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestCheckpointService {
+
+    private final IngestCheckpointRepository repo;
+
+    /**
+     * 재개 지점 열기
+     * - 없거나 DONE 이면 처음부터(lastPage=0)
+     * - RUNNING/FAILED 면 lastPage × pageSize 행 이후부터 재개 (pageSize 는 저장된 값 유지)
+     */
+    @Transactional
+    public IngestCheckpoint open(String source, LocalDate from, LocalDate to, String uprCd, int pageSize) {
+        String key = IngestCheckpoint.keyOf(source, from, to, uprCd);
+        LocalDateTime now = LocalDateTime.now();
+        IngestCheckpoint cp = repo.findByJobKey(key).orElse(null);
+
+        if (cp == null) {
+            cp = new IngestCheckpoint();
+            cp.setJobKey(key);
+            cp.setSource(source);
+            cp.setFromDate(from);
+            cp.setToDate(to);
+            cp.setUprCd(uprCd);
+        }
+        if (cp.getId() == null || cp.getStatus() == IngestCheckpoint.Status.DONE) {
+            cp.setPageSize(pageSize);
+            cp.setLastPage(0);
+            cp.setTotalPages(null);
+            cp.setStartedAt(now);
+        } else if (cp.getLastPage() > 0) {
+            log.info("resume ingest {} from page {} (pageSize={})", key, cp.getLastPage() + 1, cp.getPageSize());
+        }
+        cp.setStatus(IngestCheckpoint.Status.RUNNING);
+        cp.setLastError(null);
+        cp.setUpdatedAt(now);
+        return repo.save(cp);
+    }
+
+    /** 페이지 쓰기 트랜잭션 안에서 호출 — 같이 커밋/롤백된다 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance(IngestCheckpoint cp, int pageNo, int pageSize, Integer totalPages) {
+        repo.advance(cp.getId(), pageNo, pageSize, totalPages, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void complete(IngestCheckpoint cp) {
+        repo.finish(cp.getId(), IngestCheckpoint.Status.DONE, null, LocalDateTime.now());
+    }
+
+    /**
+     * to 가 before 이전인 DONE 체크포인트 삭제 — 재개할 것이 없는 기록뿐이다 (DONE 은 다시 열면 처음부터)
+     * 증분 동기화는 창(from~오늘)마다 키가 달라 지우지 않으면 지역 × 날짜만큼 계속 쌓인다.
+     */
+    @Transactional
+    public int purgeFinished(String source, String uprCd, LocalDate before) {
+        String region = (uprCd == null || uprCd.isBlank()) ? null : uprCd.trim();
+        return repo.deleteFinished(source, region, IngestCheckpoint.Status.DONE, before);
+    }
+
+    @Transactional
+    public void fail(IngestCheckpoint cp, Throwable error) {
+        String msg = String.valueOf(error.getMessage());
+        if (msg.length() > 500) msg = msg.substring(0, 500);
+        repo.finish(cp.getId(), IngestCheckpoint.Status.FAILED, msg, LocalDateTime.now());
+    }
+}
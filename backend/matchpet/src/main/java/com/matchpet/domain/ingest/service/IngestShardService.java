@@ -0,0 +1,127 @@
+package com.matchpet.domain.ingest.service;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.animal.support.ContentHash;
+import com.matchpet.domain.ingest.engine.IngestCounters;
+import com.matchpet.domain.ingest.entity.IngestShard;
+import com.matchpet.domain.ingest.entity.IngestWatermark;
+import com.matchpet.domain.ingest.repository.IngestShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 분산 적재 작업 큐 (ingest_shards)
+ * - plan: 요청을 upr_cd × shardDays 기간 조각으로 나눠 한 번만 등록
+ * - claim / renew / complete / fail: 워커의 lease 수명 주기 (모두 조건부 한 줄 UPDATE)
+ *   lease 만료 시각은 DB now(6) 기준으로 정하고 비교한다 (워커 간 시계 차이 무관)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestShardService {
+
+    private static final IngestShard.Status PENDING = IngestShard.Status.PENDING;
+    private static final IngestShard.Status RUNNING = IngestShard.Status.RUNNING;
+    private static final int CLAIM_CANDIDATES = 8;
+
+    private final IngestShardRepository repo;
+    private final AnimalIngestProps props;
+
+    public record Plan(String backfillKey, int shards, boolean existing) {}
+
+    /** 같은 key 로 이미 등록돼 있으면 그대로 둔다 (재요청해도 중복 shard 없음) */
+    @Transactional
+    public Plan plan(String source, LocalDate from, LocalDate to, List<String> regions, int shardDays, int pageSize,
+                     String sink) {
+        if (to.isBefore(from)) throw new IllegalArgumentException("to < from");
+        List<String> slots = (regions == null || regions.isEmpty()) ? List.of(IngestWatermark.ALL) : regions;
+        int days = Math.max(1, shardDays);
+        String key = keyOf(source, from, to, slots, days, pageSize, sink);
+        if (repo.existsByBackfillKey(key)) {
+            return new Plan(key, repo.findByBackfillKeyOrderByIdAsc(key).size(), true);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<IngestShard> shards = new ArrayList<>();
+        for (String region : slots) {
+            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(days)) {
+                LocalDate end = d.plusDays(days - 1L);
+                IngestShard s = new IngestShard();
+                s.setBackfillKey(key);
+                s.setSource(source);
+                s.setUprCd(region.trim());
+                s.setFromDate(d);
+                s.setToDate(end.isAfter(to) ? to : end);
+                s.setPageSize(pageSize);
+                s.setSink(sink);
+                s.setCreatedAt(now);
+                s.setUpdatedAt(now);
+                shards.add(s);
+            }
+        }
+        repo.saveAll(shards);
+        log.info("backfill {} planned: {} shards", key, shards.size());
+        return new Plan(key, shards.size(), false);
+    }
+
+    /**
+     * 점유 가능한 shard 하나를 가져온다 (경합에 지면 다음 후보) — lease 시각은 DB now(6) 기준
+     * 먼저 시도 횟수를 다 쓰고 lease 가 만료된 shard 를 FAILED 로 정리한다 (워커가 죽어 fail 을 못 남긴 경우)
+     */
+    @Transactional
+    public Optional<IngestShard> claim(String owner) {
+        AnimalIngestProps.Shard cfg = props.getShard();
+        int exhausted = repo.failExhausted(cfg.getMaxAttempts());
+        if (exhausted > 0) log.warn("{} shard(s) failed: lease expired after {} attempts", exhausted, cfg.getMaxAttempts());
+        for (Long id : repo.findClaimable(cfg.getMaxAttempts(), CLAIM_CANDIDATES)) {
+            if (repo.claim(id, owner, cfg.getLeaseSeconds(), cfg.getMaxAttempts()) == 1) {
+                return repo.findById(id);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** false 면 lease 를 잃었다 (만료 후 다른 워커가 가져감) */
+    @Transactional
+    public boolean renew(IngestShard s, String owner) {
+        return repo.renew(s.getId(), owner, props.getShard().getLeaseSeconds()) == 1;
+    }
+
+    @Transactional
+    public void complete(IngestShard s, String owner, IngestCounters c) {
+        repo.finish(s.getId(), owner, IngestShard.Status.DONE, c.getTotal(), c.getInserted(), c.getUpdated(),
+                c.getRetired(), LocalDateTime.now(), RUNNING);
+    }
+
+    @Transactional
+    public void fail(IngestShard s, String owner, Throwable error) {
+        String msg = String.valueOf(error.getMessage());
+        if (msg.length() > 500) msg = msg.substring(0, 500);
+        repo.fail(s.getId(), owner, msg, props.getShard().getMaxAttempts(), LocalDateTime.now(),
+                PENDING, IngestShard.Status.FAILED, RUNNING);
+    }
+
+    @Transactional(readOnly = true)
+    public List<IngestShard> shards(String backfillKey) {
+        return repo.findByBackfillKeyOrderByIdAsc(backfillKey);
+    }
+
+    /**
+     * 작업을 바꾸는 인자 전부(지역·조각 일수·페이지 크기·sink)의 SHA-1 — 하나라도 다르면 다른 backfill
+     * 앞부분(source|from|to)은 사람이 보기 위한 것
+     */
+    private static String keyOf(String source, LocalDate from, LocalDate to, List<String> regions, int shardDays,
+                                int pageSize, String sink) {
+        String params = String.join(",", regions.stream().map(String::trim).toList())
+                + "|" + shardDays + "d|" + pageSize + "|" + (sink == null ? "" : sink);
+        return source + "|" + from + "|" + to + "|" + ContentHash.sha1(params);
+    }
+}
@@ -0,0 +1,70 @@
+package com.matchpet.domain.ingest.shard;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.ingest.entity.IngestShard;
+import com.matchpet.domain.ingest.service.IngestShardService;
+import com.matchpet.domain.ingest.source.AbandonmentApiSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 적재(backfill) — 요청을 shard 로 나눠 큐에 등록하고, 워커가 켜진 노드면 바로 워커를 띄운다.
+ * 진행 상황은 shard 상태를 모아서 본다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+
+    private final IngestShardService shards;
+    private final ShardWorkerPool pool;
+    private final AnimalIngestProps props;
+
+    public IngestShardService.Plan submit(LocalDate from, LocalDate to, List<String> regions, Integer shardDays,
+                                          int pageSize, String sink) {
+        AnimalIngestProps.Shard cfg = props.getShard();
+        List<String> slots = (regions == null || regions.isEmpty()) ? cfg.getRegions() : regions;
+        IngestShardService.Plan plan = shards.plan(AbandonmentApiSource.NAME, from, to, slots,
+                shardDays != null ? shardDays : cfg.getShardDays(), pageSize, sink);
+        if (cfg.isEnabled()) pool.topUp();
+        return plan;
+    }
+
+    public Map<String, Object> status(String backfillKey) {
+        List<IngestShard> list = shards.shards(backfillKey);
+        Map<IngestShard.Status, Integer> byStatus = new EnumMap<>(IngestShard.Status.class);
+        int total = 0, inserted = 0, updated = 0, retired = 0;
+        for (IngestShard s : list) {
+            byStatus.merge(s.getStatus(), 1, Integer::sum);
+            total += nz(s.getTotalRows());
+            inserted += nz(s.getInserted());
+            updated += nz(s.getUpdated());
+            retired += nz(s.getRetired());
+        }
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("backfillKey", backfillKey);
+        m.put("shards", list.size());
+        m.put("byStatus", byStatus);
+        m.put("total", total);
+        m.put("inserted", inserted);
+        m.put("updated", updated);
+        m.put("retired", retired);
+        m.put("localWorkers", pool.activeWorkers());
+        m.put("failed", list.stream()
+                .filter(s -> s.getStatus() == IngestShard.Status.FAILED)
+                .map(s -> Map.of("id", s.getId(), "uprCd", s.getUprCd(), "from", s.getFromDate(),
+                        "to", s.getToDate(), "error", String.valueOf(s.getLastError())))
+                .toList());
+        return m;
+    }
+
+    private static int nz(Integer v) {
+        return v != null ? v : 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.matchpet.domain.ingest.shard;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.ingest.engine.IngestCounters;
+import com.matchpet.domain.ingest.engine.IngestEngine;
+import com.matchpet.domain.ingest.engine.IngestRequest;
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.domain.ingest.entity.IngestShard;
+import com.matchpet.domain.ingest.job.IngestProgress;
+import com.matchpet.domain.ingest.service.IngestShardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * shard 워커 — 노드마다 animal.ingest.shard.workers 개 스레드가 큐가 빌 때까지 claim → 실행을 반복한다.
+ * 여러 노드가 같은 DB 를 보면 그대로 수평 확장된다. lease 연장은 chunk 사이(취소 확인 시점)에 한다.
+ */
+@Slf4j
+@Component
+public class ShardWorkerPool {
+
+    private static final String NODE = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+
+    private final IngestShardService shards;
+    private final IngestEngine engine;
+    private final Map<String, IngestSource> sources;
+    private final AnimalIngestProps props;
+    private final ThreadPoolTaskExecutor ingestShardExecutor;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public ShardWorkerPool(IngestShardService shards, IngestEngine engine, List<IngestSource> sources,
+                           AnimalIngestProps props, ThreadPoolTaskExecutor ingestShardExecutor) {
+        this.shards = shards;
+        this.engine = engine;
+        this.sources = sources.stream().collect(Collectors.toMap(IngestSource::name, Function.identity()));
+        this.props = props;
+        this.ingestShardExecutor = ingestShardExecutor;
+    }
+
+    /** 빈 워커 자리만큼 루프를 띄운다 (스케줄러/제출 직후 호출) */
+    public void topUp() {
+        int workers = props.getShard().getWorkers();
+        while (true) {
+            int n = active.get();
+            if (n >= workers) return;
+            if (!active.compareAndSet(n, n + 1)) continue;
+            try {
+                ingestShardExecutor.execute(this::loop);
+            } catch (TaskRejectedException e) {
+                active.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    public int activeWorkers() {
+        return active.get();
+    }
+
+    private void loop() {
+        String owner = NODE + "/" + Thread.currentThread().getName();
+        try {
+            Optional<IngestShard> next;
+            while (!Thread.currentThread().isInterrupted() && (next = shards.claim(owner)).isPresent()) {
+                runShard(next.get(), owner);
+            }
+        } catch (RuntimeException e) {
+            log.warn("shard worker {} stopped: {}", owner, e.toString());
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private void runShard(IngestShard s, String owner) {
+        IngestSource source = sources.get(s.getSource());
+        if (source == null) {
+            shards.fail(s, owner, new IllegalStateException("unknown source " + s.getSource()));
+            return;
+        }
+        IngestRequest req = new IngestRequest(s.getFromDate(), s.getToDate(), s.requestUprCd(), s.getPageSize());
+        LeaseProgress lease = new LeaseProgress(s, owner);
+        try {
+            IngestCounters c = engine.run(source, engine.sink(s.getSink()), req, lease);
+            shards.complete(s, owner, c);
+            log.info("shard #{} [{} {}~{}] done by {}: {}", s.getId(), s.getUprCd(), s.getFromDate(), s.getToDate(), owner, c);
+        } catch (CancellationException e) {
+            // lease 를 잃음 — 가져간 워커가 체크포인트부터 이어 받는다
+            log.warn("shard #{} lease lost by {}", s.getId(), owner);
+        } catch (RuntimeException e) {
+            log.warn("shard #{} failed (attempt {}): {}", s.getId(), s.getAttempts(), e.toString());
+            shards.fail(s, owner, e);
+        }
+    }
+
+    /** chunk 사이마다 불리는 취소 확인에서 heartbeat 간격이 지났으면 lease 를 연장 */
+    private class LeaseProgress implements IngestProgress {
+        private final IngestShard shard;
+        private final String owner;
+        private long lastBeat = System.nanoTime();
+        private boolean lost;
+
+        LeaseProgress(IngestShard shard, String owner) {
+            this.shard = shard;
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            long intervalNanos = props.getShard().getHeartbeatSeconds() * 1_000_000_000L;
+            if (!lost && System.nanoTime() - lastBeat >= intervalNanos) {
+                lost = !shards.renew(shard, owner);
+                lastBeat = System.nanoTime();
+            }
+            return lost;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.matchpet.domain.ingest.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** animal.ingest.shard.enabled=true 인 노드만 큐를 주기적으로 확인 (다른 노드가 등록한 backfill 도 가져감) */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "animal.ingest.shard", name = "enabled", havingValue = "true")
+public class ShardWorkerScheduler {
+
+    private final ShardWorkerPool pool;
+
+    @Scheduled(fixedDelayString = "${animal.ingest.shard.poll-ms:10000}")
+    public void poll() {
+        pool.topUp();
+    }
+}
@@ -0,0 +1,70 @@
+package com.matchpet.domain.ingest.source;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.ingest.engine.IngestRequest;
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.external.AnimalApiClient;
+import com.matchpet.external.RawPageArchive;
+import com.matchpet.external.dto.ExternalResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 공공데이터 abandonmentPublic_v2 원천
+ * - 스트리밍 모드: item 을 chunkSize 만큼 모일 때마다 넘기고, 남은 item 은 페이지 메타와 함께 돌려준다
+ * - 일반 모드: 페이지 전체를 역직렬화해 한 번에 돌려준다
+ * - 원본 보관(archive) 중에는 numOfRows 를 고정한다 — 보관본은 pageSize 별 디렉터리에 pageNo 로 쌓이므로
+ *   실행 중에 크기가 바뀌면 한 범위가 여러 디렉터리로 흩어져 재생(ArchiveReplaySource)으로 다 읽을 수 없다
+ */
+@Component
+@RequiredArgsConstructor
+public class AbandonmentApiSource implements IngestSource {
+
+    public static final String NAME = "abandonment";
+
+    private final AnimalApiClient api;
+    private final AnimalIngestProps ingestProps;
+    private final RawPageArchive archive;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean adaptivePaging() {
+        return !archive.isEnabled();
+    }
+
+    @Override
+    public boolean reconcilable() {
+        return true;
+    }
+
+    @Override
+    public PageTail readPage(IngestRequest req, int pageNo, Consumer<List<ExternalResponse.Item>> emit) {
+        return ingestProps.isStreaming() ? readStreaming(req, pageNo, emit) : readWhole(req, pageNo);
+    }
+
+    private PageTail readStreaming(IngestRequest req, int pageNo, Consumer<List<ExternalResponse.Item>> emit) {
+        return PageChunker.read(
+                attempt -> api.stream(req.from(), req.to(), req.uprCd(), pageNo, req.pageSize(), attempt),
+                ingestProps.getChunkSize(), req.pageSize(), emit);
+    }
+
+    /** resultCode / 빈 본문은 AnimalApiClient 에서 이미 예외 */
+    private PageTail readWhole(IngestRequest req, int pageNo) {
+        ExternalResponse res = api.fetch(req.from(), req.to(), req.uprCd(), pageNo, req.pageSize()).block();
+        ExternalResponse.Body body = res.getResponse().getBody();
+        if (body == null || body.getTotalCount() == null) {
+            throw new IllegalStateException("External API page without body/totalCount: pageNo=" + pageNo);
+        }
+        List<ExternalResponse.Item> items = (body.getItems() != null && body.getItems().getItem() != null)
+                ? body.getItems().getItem() : List.of();
+        int rows = (body.getNumOfRows() != null) ? body.getNumOfRows() : req.pageSize();
+        return new PageTail(PageChunker.lastPage(body.getTotalCount(), rows), items.size(), items);
+    }
+}
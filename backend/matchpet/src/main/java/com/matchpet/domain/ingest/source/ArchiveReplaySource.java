@@ -0,0 +1,61 @@
+package com.matchpet.domain.ingest.source;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.ingest.engine.IngestRequest;
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.external.AnimalApiResultException;
+import com.matchpet.external.AnimalPageStreamReader;
+import com.matchpet.external.RawPageArchive;
+import com.matchpet.external.dto.ExternalResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 보관된 원본 페이지(RawPageArchive) 재생 원천 — 외부 API 를 호출하지 않는다.
+ * 같은 range/uprCd/pageSize 로 받아 둔 페이지를 순서대로 읽고, 비어 있는 페이지에서 멈춘다.
+ * 보관본이 없는 페이지는 null 로 알리고, totalCount 상 마지막 페이지 전이면 적재 엔진이 실패로 처리한다.
+ * 체크포인트는 "replay" 이름으로 따로 관리되어 실제 적재 재개 지점과 섞이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveReplaySource implements IngestSource {
+
+    public static final String NAME = "replay";
+
+    private final RawPageArchive archive;
+    private final AnimalPageStreamReader pageReader;
+    private final AnimalIngestProps ingestProps;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public PageTail readPage(IngestRequest req, int pageNo, Consumer<List<ExternalResponse.Item>> emit) {
+        Path file = archive.latest(req.from(), req.to(), req.uprCd(), req.pageSize(), pageNo).orElse(null);
+        if (file == null) {
+            log.info("no archived page {} for {}~{} region={} pageSize={}",
+                    pageNo, req.from(), req.to(), req.uprCd(), req.pageSize());
+            return null;
+        }
+        return PageChunker.read(attempt -> {
+            try (InputStream in = archive.open(file)) {
+                AnimalPageStreamReader.PageMeta meta = pageReader.read(in, attempt.get());
+                AnimalApiResultException.check(meta.resultCode(), meta.resultMsg(), pageNo); // 예전에 보관된 오류 페이지
+                return meta;
+            } catch (IOException e) {
+                throw new UncheckedIOException("archived page read failed: " + file, e);
+            }
+        }, ingestProps.getChunkSize(), req.pageSize(), emit);
+    }
+}
@@ -0,0 +1,52 @@
+package com.matchpet.domain.ingest.source;
+
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.external.AnimalPageStreamReader;
+import com.matchpet.external.dto.ExternalResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 스트리밍 파서 결과를 chunkSize 묶음으로 넘기고, 남은 item 과 페이지 메타로 PageTail 을 만든다
+ * reader 는 시도(재시도 포함)마다 공급자에서 소비자를 새로 받는다 — 도중에 끊긴 시도의 남은 item 이
+ * 다음 시도의 것과 섞이지 않도록 묶음 버퍼는 시도마다 새로 만든다 (이미 넘긴 묶음은 다시 넘어가도 upsert 라 무해).
+ */
+final class PageChunker {
+    private PageChunker() {}
+
+    static IngestSource.PageTail read(
+            Function<Supplier<Consumer<ExternalResponse.Item>>, AnimalPageStreamReader.PageMeta> reader,
+            int chunkSize, int pageSize, Consumer<List<ExternalResponse.Item>> emit) {
+        int size = Math.max(1, chunkSize);
+        AtomicReference<List<ExternalResponse.Item>> current = new AtomicReference<>();
+        AnimalPageStreamReader.PageMeta meta = reader.apply(() -> {
+            List<ExternalResponse.Item> buf = new ArrayList<>(size);
+            current.set(buf);
+            return it -> {
+                buf.add(it);
+                if (buf.size() >= size) {
+                    emit.accept(new ArrayList<>(buf));
+                    buf.clear();
+                }
+            };
+        });
+        // totalCount 가 없으면 범위를 끝까지 읽었는지 판단할 수 없다
+        if (meta.totalCount() == null) {
+            throw new IllegalStateException("page without totalCount: pageNo=" + meta.pageNo()
+                    + ", resultCode=" + meta.resultCode());
+        }
+        int rows = (meta.numOfRows() != null) ? meta.numOfRows() : pageSize;
+        List<ExternalResponse.Item> rest = current.get();
+        return new IngestSource.PageTail(lastPage(meta.totalCount(), rows), meta.itemCount(),
+                rest != null ? rest : List.of());
+    }
+
+    static int lastPage(int totalCount, int rows) {
+        return (int) Math.ceil((double) totalCount / Math.max(1, rows));
+    }
+}
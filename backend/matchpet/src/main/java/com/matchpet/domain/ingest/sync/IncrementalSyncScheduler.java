@@ -0,0 +1,32 @@
+package com.matchpet.domain.ingest.sync;
+
+import com.matchpet.scheduling.LeaderOnly;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * animal.ingest.sync.enabled=true 일 때만 등록
+ * 여러 인스턴스가 떠 있어도 같은 회차는 lease 를 잡은 한 노드만 job 을 제출한다 (@LeaderOnly).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "animal.ingest.sync", name = "enabled", havingValue = "true")
+public class IncrementalSyncScheduler {
+
+    private final IncrementalSyncService sync;
+
+    @Scheduled(cron = "${animal.ingest.sync.cron:0 0 * * * *}")
+    @LeaderOnly(value = "incremental-sync", minHoldSeconds = 60)
+    public void run() {
+        try {
+            sync.runOnce();
+        } catch (RuntimeException e) {
+            // 대기열이 가득 찬 경우 등 — 다음 주기에 다시 시도
+            log.warn("incremental sync skipped: {}", e.getMessage());
+        }
+    }
+}
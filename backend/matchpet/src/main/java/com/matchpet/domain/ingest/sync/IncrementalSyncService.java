@@ -0,0 +1,107 @@
+package com.matchpet.domain.ingest.sync;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.domain.ingest.engine.IngestCounters;
+import com.matchpet.domain.ingest.entity.IngestWatermark;
+import com.matchpet.domain.ingest.job.IngestJobService;
+import com.matchpet.domain.ingest.repository.IngestWatermarkRepository;
+import com.matchpet.domain.ingest.service.IngestCheckpointService;
+import com.matchpet.service.AnimalIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시/도별 증분 동기화
+ * - 지역마다 watermark 를 두고 [min(highWater, lastSuccessTo) - overlap, 오늘] 만 적재 작업으로 제출
+ * - 작업이 끝까지 성공해야 watermark 를 올린다 (실패/취소면 다음 실행이 같은 창을 다시 받음)
+ * - 성공한 창에서 더 새로운 데이터가 없었으면 highWater 를 창 끝까지 올린다 (조용한 지역의 창이 maxWindowDays 까지 늘어나지 않게)
+ * - 창마다 체크포인트 키(source|from|to|uprCd)가 새로 생기므로, 성공하면 이번 창 시작 전에 끝난 DONE 체크포인트를 지운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalSyncService {
+
+    private final AnimalIngestProps props;
+    private final IngestJobService jobService;
+    private final IngestWatermarkRepository watermarks;
+    private final IngestCheckpointService checkpoints;
+
+    public record Window(String region, LocalDate from, LocalDate to) {}
+
+    /** 설정된 모든 지역의 증분 창을 작업으로 제출 */
+    public List<IngestJobService.Submission> runOnce() {
+        LocalDate today = LocalDate.now();
+        List<String> regions = props.getSync().getRegions().isEmpty()
+                ? List.of(IngestWatermark.ALL)
+                : props.getSync().getRegions();
+
+        List<IngestJobService.Submission> out = new ArrayList<>();
+        for (String region : regions) {
+            Window w = windowFor(IngestWatermark.regionOf(region), today);
+            String uprCd = IngestWatermark.ALL.equals(w.region()) ? null : w.region();
+            var s = jobService.submit(w.from(), w.to(), uprCd, props.getSync().getPageSize(),
+                    c -> advance(w, c));
+            log.info("incremental sync {} {}~{} → job {}{}", w.region(), w.from(), w.to(),
+                    s.job().getId(), s.deduplicated() ? " (already running)" : "");
+            out.add(s);
+        }
+        return out;
+    }
+
+    Window windowFor(String region, LocalDate today) {
+        AnimalIngestProps.Sync cfg = props.getSync();
+        IngestWatermark wm = watermarks.findBySourceAndUprCd(AnimalIngestService.SOURCE, region).orElse(null);
+        if (wm == null || wm.getLastSuccessTo() == null) {
+            return new Window(region, today.minusDays(cfg.getInitialDays()), today);
+        }
+        LocalDate mark = wm.getLastSuccessTo();
+        if (wm.getHighWaterDt() != null && wm.getHighWaterDt().isBefore(mark)) mark = wm.getHighWaterDt();
+
+        LocalDate from = mark.minusDays(cfg.getOverlapDays());
+        LocalDate floor = today.minusDays(cfg.getMaxWindowDays());
+        if (from.isBefore(floor)) from = floor;
+        return new Window(region, from, today);
+    }
+
+    /** 작업 성공 후 (작업 스레드) watermark 갱신 — highWater 는 줄이지 않는다, 새 데이터가 없었으면 창 끝까지 */
+    private void advance(Window w, IngestCounters c) {
+        IngestWatermark wm = watermarks.findBySourceAndUprCd(AnimalIngestService.SOURCE, w.region())
+                .orElseGet(() -> {
+                    IngestWatermark n = new IngestWatermark();
+                    n.setSource(AnimalIngestService.SOURCE);
+                    n.setUprCd(w.region());
+                    return n;
+                });
+
+        LocalDate seen = max(c.getMaxHappenDt(), c.getMaxNoticeSdt());
+        if (seen != null && seen.isAfter(w.to())) seen = w.to();
+        boolean newer = seen != null && (wm.getHighWaterDt() == null || seen.isAfter(wm.getHighWaterDt()));
+        // 창 [from, to] 를 끝까지 읽었는데 highWater 이후 데이터가 없음 → to 까지는 확인된 것으로 본다
+        wm.setHighWaterDt(newer ? seen : max(wm.getHighWaterDt(), w.to()));
+        if (wm.getLastSuccessTo() == null || w.to().isAfter(wm.getLastSuccessTo())) wm.setLastSuccessTo(w.to());
+
+        LocalDateTime now = LocalDateTime.now();
+        wm.setLastSuccessAt(now);
+        wm.setLastRows(c.getTotal());
+        wm.setUpdatedAt(now);
+        watermarks.save(wm);
+
+        // watermark 아래로 완전히 내려간 창의 체크포인트 (겹치는 최근 창 것은 남는다 — overlapDays 만큼으로 유한)
+        String uprCd = IngestWatermark.ALL.equals(w.region()) ? null : w.region();
+        int purged = checkpoints.purgeFinished(AnimalIngestService.SOURCE, uprCd, w.from());
+        if (purged > 0) log.debug("incremental sync {}: purged {} finished checkpoints", w.region(), purged);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -4,9 +4,13 @@ import java.math.BigDecimal;
 
 import com.matchpet.domain.match.Enums.Level3;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter; import lombok.Setter;
 
 @Entity @Getter @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ref.manager")
 @Table(name = "managers")
 public class ManagerProfile {
   @Id
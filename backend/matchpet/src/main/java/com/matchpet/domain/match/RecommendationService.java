@@ -2,31 +2,44 @@ package com.matchpet.domain.match;
 
 import com.matchpet.domain.animal.dto.AnimalMapper;
 import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.enums.ProcessState;
 import com.matchpet.domain.animal.repository.AnimalRepository;
 import com.matchpet.domain.senior.repository.SeniorRepository;
 import com.matchpet.web.dto.RecoPetDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationService {
 
+    // BLOCK(공격성)·HOLD_MEDICAL(치료/격리) 은 추천하지 않는다
+    private static final Set<SpecialMarkClassifier.RiskLevel> RECOMMENDABLE = EnumSet.of(
+            SpecialMarkClassifier.RiskLevel.GREEN,
+            SpecialMarkClassifier.RiskLevel.CAUTION,
+            SpecialMarkClassifier.RiskLevel.LIMIT_BEHAVIOR);
+
     private final SeniorRepository seniorRepo;
     private final AnimalRepository animalRepo;
 
     /**
      * 간단 스코어: AVAILABLE +30, neuter=Y +5
+     * 후보는 적재 시 저장한 risk_level 로 먼저 거른다 (BLOCK/HOLD_MEDICAL 제외, CLOSED 제외)
      * page 정렬은 최신 id DESC, 프론트에서 score로 재정렬 가능
+     * 읽기 전용 — app.read-routing 이 켜져 있으면 복제본에서 읽는다
      */
+    @Transactional(readOnly = true)
     public Page<RecoPetDto> recommendPets(Long seniorId, String mode, Pageable pageable) {
         // senior 정보 필요 시 활용용 조회(가중치 확장 여지)
         seniorRepo.findById(seniorId).orElse(null);
 
-        Page<Animal> base = animalRepo.findAll(
+        Page<Animal> base = animalRepo.findRecommendable(RECOMMENDABLE, Animal.Status.CLOSED,
             PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
                 Sort.by(Sort.Direction.DESC, "id"))
         );
@@ -35,7 +48,7 @@ public class RecommendationService {
             double score = 0.0;
             boolean available =
                 a.getStatus() == Animal.Status.AVAILABLE ||
-                (a.getProcessState() != null && a.getProcessState().contains("보호"));
+                a.getProcessCode() == ProcessState.PROTECT;
 
             if (available) score += 30;
             if ("Y".equalsIgnoreCase(a.getNeuterYn())) score += 5;
@@ -0,0 +1,51 @@
+package com.matchpet.domain.match;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.ingest.engine.IngestEnricher;
+import com.matchpet.external.dto.ExternalResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * specialMark 분류 결과를 animals 컬럼으로 저장 (적재 map 단계 / 보호소 직접 등록)
+ * - 분류는 쓰기 시점에 한 번만 — 추천/검색은 risk_level 등 인덱스 컬럼으로 거른다.
+ * - energyLevel/temperament 는 값이 없을 때만 분류 결과로 채운다 (보호소가 직접 입력한 값 우선)
+ *   적재 경로는 저장된 값이 있으면 유지한다 (AnimalBulkRepository 의 coalesce) — 한 번 채워진 값은 특이사항이 바뀌어도 그대로
+ */
+@Component
+@Order(100)
+public class SpecialMarkEnricher implements IngestEnricher {
+
+    @Override
+    public void enrich(ExternalResponse.Item source, Animal target) {
+        apply(target);
+    }
+
+    public void apply(Animal a) {
+        SpecialMarkClassifier.Result r = SpecialMarkClassifier.classify(a.getSpecialMark());
+        a.setRiskLevel(r.getRiskLevel());
+        a.setBeginnerFriendly(r.isBeginnerFriendly());
+        a.setHighActivity(r.isHighActivity());
+        a.setMedicationRequired(r.isMedicationRequired());
+        a.setAggressive(r.isAggressive());
+
+        if (a.getEnergyLevel() == null) a.setEnergyLevel(energyOf(r));
+        if (a.getTemperament() == null) a.setTemperament(temperamentOf(r));
+    }
+
+    // 특이사항이 비어 있으면 판단 근거가 없으므로 null
+    static Animal.EnergyLevel energyOf(SpecialMarkClassifier.Result r) {
+        if (r.isHighActivity()) return Animal.EnergyLevel.HIGH;
+        if (r.isBeginnerFriendly()) return Animal.EnergyLevel.LOW;
+        return r.getCleanText().isBlank() ? null : Animal.EnergyLevel.MID;
+    }
+
+    static Animal.Temperament temperamentOf(SpecialMarkClassifier.Result r) {
+        if (r.isHighActivity()) return Animal.Temperament.ACTIVE;
+        if (r.isBeginnerFriendly()) return Animal.Temperament.COMPANION;
+        if (r.isAggressive() || r.getRiskLevel() == SpecialMarkClassifier.RiskLevel.LIMIT_BEHAVIOR) {
+            return Animal.Temperament.QUIET;
+        }
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package com.matchpet.domain.senior.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
 
 @Getter @Setter
 @Entity @Table(name = "seniors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ref.senior")
 public class Senior {
 
     @Id
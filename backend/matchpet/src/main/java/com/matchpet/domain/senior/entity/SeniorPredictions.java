@@ -1,11 +1,20 @@
 package com.matchpet.domain.senior.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * 시니어 특성 예측값 — 앱 밖(예측 배치)에서만 쓰고 앱은 읽기만 한다.
+ * 2차 캐시(READ_WRITE)는 이 앱의 JPA 쓰기만 무효화하므로, 배치가 바꾼 값은
+ * ref.senior-predictions 만료(hibernate-l2.conf, 5분)가 지날 때까지 예전 값으로 보일 수 있다.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ref.senior-predictions")
 @Table(name = "senior_predictions")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class SeniorPredictions {
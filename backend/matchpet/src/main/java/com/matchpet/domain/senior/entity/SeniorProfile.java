@@ -1,11 +1,15 @@
 package com.matchpet.domain.senior.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter; import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Entity @Getter @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ref.senior-profile")
 @Table(name = "seniors")
 public class SeniorProfile {
   @Id
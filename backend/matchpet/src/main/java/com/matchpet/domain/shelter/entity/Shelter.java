@@ -1,12 +1,16 @@
 package com.matchpet.domain.shelter.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ref.shelter")
 @Table(name = "shelters",
   uniqueConstraints = @UniqueConstraint(name="uq_shelter_name_addr", columnNames={"care_nm","care_addr"}))
 @Getter @Setter
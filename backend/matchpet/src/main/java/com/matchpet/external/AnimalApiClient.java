@@ -5,17 +5,28 @@ import com.matchpet.config.AnimalApiProps;
 import com.matchpet.external.dto.ExternalResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -23,32 +34,29 @@ import java.util.List;
 public class AnimalApiClient {
 
     private static final DateTimeFormatter BASIC = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
+    private static final int STREAM_DEMAND = 16; // 한 번에 요청하는 DataBuffer 수
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate animalRestTemplate;
     private final ObjectMapper objectMapper;
     private final AnimalApiProps props;
+    private final WebClient animalWebClient;
+    private final AnimalPageStreamReader pageReader;
+    private final RawPageArchive archive;
+    private final AnimalApiGuard guard;
 
     public ExternalResponse call(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows) {
-        String endpoint = props.getResolvedEndpoint();
-        String serviceKey = props.getServiceKey();
-        URI uri = UriComponentsBuilder.fromHttpUrl(endpoint)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("bgnde", from.format(BASIC))
-                .queryParam("endde", to.format(BASIC))
-                .queryParam("upr_cd", uprCd)
-                .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", Math.min(numOfRows, props.getPageSizeMax()))
-                .queryParam("_type", "json")
-                .build(true)
-                .toUri();
+        // HTTP 200 오류 페이지(resultCode ≠ "00")도 예외 — 미리보기 캐시에 오류 응답이 남지 않게
+        return guard.call(() -> checked(doCall(buildUri(from, to, uprCd, pageNo, numOfRows)), pageNo));
+    }
 
+    private ExternalResponse doCall(URI uri) {
         HttpHeaders headers = new HttpHeaders();
         headers.setAcceptCharset(List.of(StandardCharsets.UTF_8));
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
 
         try {
             ResponseEntity<ExternalResponse> resp =
-                    restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), ExternalResponse.class);
+                    animalRestTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), ExternalResponse.class);
             return resp.getBody();
         } catch (RestClientResponseException e) {
             String bodyHead = e.getResponseBodyAsString();
@@ -60,4 +68,104 @@ public class AnimalApiClient {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 적재 파이프라인용 비동기 호출 (animalWebClient) — 호출 측에서 다음 페이지 fetch 와 쓰기를 겹칠 수 있다
+     * 보관이 켜져 있으면 원본 바이트를 받아 보관한 뒤 역직렬화한다.
+     * 구독 스레드에서 AnimalApiGuard(한도/재시도/차단기/격벽)를 거쳐 실행된다.
+     */
+    public Mono<ExternalResponse> fetch(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows) {
+        return Mono.fromCallable(() -> guard.call(() -> doFetch(from, to, uprCd, pageNo, numOfRows).block()));
+    }
+
+    private Mono<ExternalResponse> doFetch(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows) {
+        URI uri = buildUri(from, to, uprCd, pageNo, numOfRows);
+        WebClient.ResponseSpec spec = animalWebClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .retrieve();
+        // 오류 페이지는 보관하지 않는다 (재생 시 정상 페이지로 읽히지 않게)
+        Mono<ExternalResponse> body = !archive.isEnabled()
+                ? spec.bodyToMono(ExternalResponse.class).map(res -> checked(res, pageNo))
+                : spec.bodyToMono(byte[].class).map(bytes -> {
+                    ExternalResponse res;
+                    try {
+                        res = objectMapper.readValue(bytes, ExternalResponse.class);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("External API response parse failed: pageNo=" + pageNo, e);
+                    }
+                    checked(res, pageNo);
+                    archive.save(from, to, uprCd, numOfRows, pageNo, bytes);
+                    return res;
+                });
+        return body
+                .switchIfEmpty(Mono.error(() -> new AnimalApiResultException(null, "empty body", pageNo)))
+                .doOnError(WebClientResponseException.class, e -> {
+                    String bodyHead = e.getResponseBodyAsString();
+                    if (bodyHead.length() > 500) bodyHead = bodyHead.substring(0, 500);
+                    log.error("External API error status={}, contentType={}, bodyHead={}",
+                            e.getStatusCode().value(), e.getHeaders().getContentType(), bodyHead);
+                });
+    }
+
+    /**
+     * 스트리밍 호출: 응답 바디를 제한된 demand 로 읽으면서 item 을 하나씩 onItem 에 넘긴다.
+     * onItem 이 막히면(하류 큐가 가득 참) 읽기도 멈추므로 페이지 전체가 메모리에 올라오지 않는다.
+     * 도중에 끊겨 재시도하면 페이지 앞부분 item 이 다시 전달된다 (쓰기가 키 기준 upsert 라 결과는 같음).
+     */
+    public AnimalPageStreamReader.PageMeta stream(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows,
+                                                  Consumer<ExternalResponse.Item> onItem) {
+        return stream(from, to, uprCd, pageNo, numOfRows, () -> onItem);
+    }
+
+    /** 시도(재시도 포함)마다 attempt 로 새 소비자를 받는다 — 끊긴 시도에서 모아 둔 중간 상태를 버릴 수 있게 */
+    public AnimalPageStreamReader.PageMeta stream(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows,
+                                                  Supplier<Consumer<ExternalResponse.Item>> attempt) {
+        return guard.call(() -> doStream(from, to, uprCd, pageNo, numOfRows, attempt.get()));
+    }
+
+    private AnimalPageStreamReader.PageMeta doStream(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows,
+                                                     Consumer<ExternalResponse.Item> onItem) {
+        URI uri = buildUri(from, to, uprCd, pageNo, numOfRows);
+        Flux<DataBuffer> body = animalWebClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .doOnError(WebClientResponseException.class, e ->
+                        log.error("External API error status={}, contentType={}",
+                                e.getStatusCode().value(), e.getHeaders().getContentType()));
+        try (RawPageArchive.Recording rec = archive.record(from, to, uprCd, numOfRows, pageNo);
+             InputStream in = rec.wrap(DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND))) {
+            AnimalPageStreamReader.PageMeta meta = pageReader.read(in, onItem);
+            AnimalApiResultException.check(meta.resultCode(), meta.resultMsg(), pageNo);
+            rec.commit();
+            return meta;
+        } catch (IOException e) {
+            throw new UncheckedIOException("External API stream failed: pageNo=" + pageNo, e);
+        }
+    }
+
+    /** HTTP 200 오류 페이지 / 헤더 없는 응답은 예외 — 빈 item 목록으로 바꾸지 않는다 */
+    private static ExternalResponse checked(ExternalResponse res, int pageNo) {
+        ExternalResponse.Header header = (res != null && res.getResponse() != null) ? res.getResponse().getHeader() : null;
+        if (header == null) throw new AnimalApiResultException(null, "missing response header", pageNo);
+        AnimalApiResultException.check(header.getResultCode(), header.getResultMsg(), pageNo);
+        return res;
+    }
+
+    private URI buildUri(LocalDate from, LocalDate to, String uprCd, int pageNo, int numOfRows) {
+        return UriComponentsBuilder.fromHttpUrl(props.getResolvedEndpoint())
+                .queryParam("serviceKey", props.getServiceKey())
+                .queryParam("bgnde", from.format(BASIC))
+                .queryParam("endde", to.format(BASIC))
+                .queryParam("upr_cd", uprCd)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", Math.min(numOfRows, props.getPageSizeMax()))
+                .queryParam("_type", "json")
+                .build(true)
+                .toUri();
+    }
+}
@@ -0,0 +1,38 @@
+package com.matchpet.external;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 외부 API 실패 중 일시적인 것(재시도·차단기 집계 대상) 판별
+ * - 5xx / 429 / 408, 연결·읽기 오류, 타임아웃 → true
+ * - 그 밖의 4xx, 응답 파싱 실패(키 한도 초과 시 XML 오류 본문 등), 취소, 일일 한도 소진 → false
+ * resilience4j.retry.*.retry-exception-predicate / circuitbreaker.*.record-failure-predicate 에서 사용
+ */
+public class AnimalApiFailures implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable t) {
+        for (Throwable c = t; c != null; c = (c.getCause() == c) ? null : c.getCause()) {
+            if (c instanceof WebClientResponseException e) return transientStatus(e.getStatusCode().value());
+            if (c instanceof RestClientResponseException e) return transientStatus(e.getStatusCode().value());
+            if (c instanceof CancellationException || c instanceof InterruptedException) return false;
+            if (c instanceof JsonProcessingException) return false;
+            if (c instanceof WebClientRequestException || c instanceof ResourceAccessException
+                    || c instanceof IOException || c instanceof TimeoutException) return true;
+        }
+        return false;
+    }
+
+    private static boolean transientStatus(int status) {
+        return status >= 500 || status == 429 || status == 408;
+    }
+}
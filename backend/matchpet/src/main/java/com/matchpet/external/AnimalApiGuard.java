@@ -0,0 +1,64 @@
+package com.matchpet.external;
+
+import com.matchpet.config.AnimalApiProps;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출 보호 (resilience4j, 설정은 application.properties 의 resilience4j.*.instances.animalApi*)
+ *
+ * Retry( CircuitBreaker( 일일 한도( 초당 한도( Bulkhead( 호출 )))))
+ * - 재시도 1회마다 한도 토큰을 다시 소비하므로 재시도도 일일 쿼터에 포함된다.
+ * - 일일 한도는 서비스키 단위라 노드 합산 DB 카운터(AnimalApiQuota)로 센다. 초당 한도는 노드별 메모리 limiter.
+ * - Bulkhead 는 실제 호출 중에만 자리를 차지한다 (재시도 대기 중에는 반납).
+ * - 일일 한도 소진(AnimalApiQuotaExceededException), 차단기 열림(CallNotPermittedException)은 재시도하지 않는다.
+ */
+@Component
+public class AnimalApiGuard {
+
+    public static final String INSTANCE = "animalApi";
+
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final AnimalApiQuota dailyQuota;
+    private final int dailyLimit;
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+
+    public AnimalApiGuard(RetryRegistry retries, CircuitBreakerRegistry circuitBreakers,
+                          RateLimiterRegistry rateLimiters, BulkheadRegistry bulkheads,
+                          AnimalApiQuota dailyQuota, AnimalApiProps props) {
+        this.retry = retries.retry(INSTANCE);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(INSTANCE);
+        this.dailyQuota = dailyQuota;
+        this.dailyLimit = props.getDailyQuota();
+        this.rateLimiter = rateLimiters.rateLimiter(INSTANCE);
+        this.bulkhead = bulkheads.bulkhead(INSTANCE);
+    }
+
+    /** 멱등 호출(페이지 조회)만 넘길 것 — 실패 시 처음부터 다시 호출된다 */
+    public <T> T call(Supplier<T> fn) {
+        Supplier<T> s = Bulkhead.decorateSupplier(bulkhead, fn);
+        s = RateLimiter.decorateSupplier(rateLimiter, s);
+        s = withinDailyQuota(s);
+        s = CircuitBreaker.decorateSupplier(circuitBreaker, s);
+        s = Retry.decorateSupplier(retry, s);
+        return s.get();
+    }
+
+    private <T> Supplier<T> withinDailyQuota(Supplier<T> fn) {
+        return () -> {
+            if (!dailyQuota.tryAcquire()) throw new AnimalApiQuotaExceededException(dailyLimit);
+            return fn.get();
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.matchpet.external;
+
+/**
+ * 외부 API 일일 호출 한도 (클러스터 전체 합산)
+ * 공공데이터포털 쿼터는 서비스키 단위라 노드별 메모리 카운터로는 노드 수만큼 초과한다.
+ */
+public interface AnimalApiQuota {
+
+    /** 호출 1건 몫을 가져간다 — 오늘 한도를 다 썼으면 false (가져간 몫은 돌려주지 않는다) */
+    boolean tryAcquire();
+}
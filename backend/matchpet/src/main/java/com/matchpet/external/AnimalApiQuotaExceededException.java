@@ -0,0 +1,12 @@
+package com.matchpet.external;
+
+/**
+ * 일일 호출 한도 소진 — 상류로 나가기 전에 끊는다
+ * 재시도/차단기 집계 대상 아님 (AnimalApiFailures 에서 false)
+ */
+public class AnimalApiQuotaExceededException extends RuntimeException {
+
+    public AnimalApiQuotaExceededException(int dailyQuota) {
+        super("External API daily quota exhausted (" + dailyQuota + " calls/day)");
+    }
+}
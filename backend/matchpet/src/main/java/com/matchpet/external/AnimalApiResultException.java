@@ -0,0 +1,28 @@
+package com.matchpet.external;
+
+import lombok.Getter;
+
+/**
+ * 외부 API 가 HTTP 200 으로 돌려준 오류 응답 (header.resultCode ≠ "00"), 헤더가 없거나 본문이 빈 응답
+ * 빈 item 목록으로 바꾸면 적재 정리 단계가 "범위를 다 읽었다"고 보고 행을 닫아 버리므로 반드시 실패로 올린다.
+ * 일시 오류로 보지 않는다 (AnimalApiFailures → 재시도/차단기 집계 대상 아님).
+ */
+@Getter
+public class AnimalApiResultException extends RuntimeException {
+
+    public static final String OK = "00";
+
+    private final String resultCode;
+    private final String resultMsg;
+
+    public AnimalApiResultException(String resultCode, String resultMsg, int pageNo) {
+        super("External API error resultCode=" + resultCode + ", resultMsg=" + resultMsg + ", pageNo=" + pageNo);
+        this.resultCode = resultCode;
+        this.resultMsg = resultMsg;
+    }
+
+    /** resultCode 가 "00" 이 아니면(없는 경우 포함) 예외 */
+    public static void check(String resultCode, String resultMsg, int pageNo) {
+        if (!OK.equals(resultCode)) throw new AnimalApiResultException(resultCode, resultMsg, pageNo);
+    }
+}
@@ -0,0 +1,102 @@
+package com.matchpet.external;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.matchpet.external.dto.ExternalResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * abandonmentPublic_v2 JSON 스트리밍 파서
+ * - 페이지 전체(ExternalResponse 트리)를 만들지 않고 item 을 하나씩 바인딩해 넘긴다.
+ * - totalCount 등은 items 뒤에 오는 경우가 많아 스트림을 끝까지 읽은 뒤 PageMeta 로 돌려준다.
+ * - 빈 결과의 items 가 "" 이거나, 1건일 때 item 이 배열이 아닌 객체로 오는 경우도 처리한다.
+ */
+@Component
+public class AnimalPageStreamReader {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemReader;
+
+    public AnimalPageStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.itemReader = objectMapper.readerFor(ExternalResponse.Item.class);
+    }
+
+    public PageMeta read(InputStream in, Consumer<ExternalResponse.Item> onItem) throws IOException {
+        try (JsonParser p = objectMapper.getFactory().createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "expected JSON object at root");
+            }
+            MutableMeta m = new MutableMeta();
+            walk(p, "", m, onItem);
+            return new PageMeta(m.resultCode, m.resultMsg, m.numOfRows, m.pageNo, m.totalCount, m.itemCount);
+        }
+    }
+
+    /** 현재 START_OBJECT 안의 필드를 순회 — 필요한 경로만 내려가고 나머지는 건너뛴다 */
+    private void walk(JsonParser p, String path, MutableMeta m, Consumer<ExternalResponse.Item> onItem) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken t = p.nextToken();
+            String here = path.isEmpty() ? name : path + "." + name;
+            switch (here) {
+                case "response", "response.header", "response.body", "response.body.items" -> {
+                    if (t == JsonToken.START_OBJECT) walk(p, here, m, onItem);
+                    else p.skipChildren();
+                }
+                case "response.body.items.item" -> readItems(p, t, m, onItem);
+                case "response.header.resultCode" -> m.resultCode = p.getValueAsString();
+                case "response.header.resultMsg" -> m.resultMsg = p.getValueAsString();
+                case "response.body.numOfRows" -> m.numOfRows = intOrNull(p);
+                case "response.body.pageNo" -> m.pageNo = intOrNull(p);
+                case "response.body.totalCount" -> m.totalCount = intOrNull(p);
+                default -> p.skipChildren();
+            }
+        }
+    }
+
+    private void readItems(JsonParser p, JsonToken t, MutableMeta m, Consumer<ExternalResponse.Item> onItem) throws IOException {
+        if (t == JsonToken.START_ARRAY) {
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                onItem.accept(itemReader.readValue(p));
+                m.itemCount++;
+            }
+        } else if (t == JsonToken.START_OBJECT) {
+            onItem.accept(itemReader.readValue(p));
+            m.itemCount++;
+        } else {
+            p.skipChildren();
+        }
+    }
+
+    private static Integer intOrNull(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) return null;
+        String s = p.getValueAsString();
+        if (s == null || s.isBlank()) return null;
+        try {
+            return Integer.valueOf(s.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class MutableMeta {
+        String resultCode;
+        String resultMsg;
+        Integer numOfRows;
+        Integer pageNo;
+        Integer totalCount;
+        int itemCount;
+    }
+
+    /** 페이지 메타 (item 은 콜백으로 이미 전달됨) */
+    public record PageMeta(String resultCode, String resultMsg,
+                           Integer numOfRows, Integer pageNo, Integer totalCount, int itemCount) {}
+}
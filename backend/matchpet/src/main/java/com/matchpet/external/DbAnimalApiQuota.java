@@ -0,0 +1,47 @@
+package com.matchpet.external;
+
+import com.matchpet.config.AnimalApiProps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 한도 DB 카운터 (api_daily_quota: 이름 + 날짜별 사용 건수)
+ * - 날짜는 DB 시각(UTC)을 KST 로 바꿔 쓴다 → 노드 시계와 무관하게 자정(KST)에 함께 넘어간다.
+ * - 평소에는 조건부 UPDATE 한 문장 (used < 한도일 때만 +1, 자동 커밋). 그날 첫 호출만 INSERT IGNORE 가 더 나간다.
+ * - 지난 날짜 행은 새 날짜 행을 만든 노드가 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DbAnimalApiQuota implements AnimalApiQuota {
+
+    static final String NAME = AnimalApiGuard.INSTANCE;
+
+    /** 공공데이터포털 쿼터 기준일 (KST, 서머타임 없음) */
+    private static final String TODAY = "date(convert_tz(utc_timestamp(), '+00:00', '+09:00'))";
+
+    private static final String USE_SQL =
+            "update api_daily_quota set used = used + 1 where name = ? and quota_day = " + TODAY + " and used < ?";
+
+    private static final String OPEN_DAY_SQL =
+            "insert ignore into api_daily_quota (name, quota_day, used) values (?, " + TODAY + ", 1)";
+
+    private static final String PURGE_SQL =
+            "delete from api_daily_quota where name = ? and quota_day < " + TODAY + " - interval 7 day";
+
+    private final JdbcTemplate jdbc;
+    private final AnimalApiProps props;
+
+    @Override
+    public boolean tryAcquire() {
+        int quota = props.getDailyQuota();
+        if (jdbc.update(USE_SQL, NAME, quota) == 1) return true;
+        if (quota <= 0) return false;
+        if (jdbc.update(OPEN_DAY_SQL, NAME) == 1) {
+            jdbc.update(PURGE_SQL, NAME);
+            return true;
+        }
+        // 다른 노드가 방금 오늘 행을 만들었다
+        return jdbc.update(USE_SQL, NAME, quota) == 1;
+    }
+}
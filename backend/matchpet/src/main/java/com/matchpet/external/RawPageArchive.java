@@ -0,0 +1,152 @@
+package com.matchpet.external;
+
+import com.matchpet.config.AnimalApiProps;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 API 원본 응답 페이지 보관소 (로컬 디스크, gzip)
+ *
+ * {dir}/{from}_{to}_{uprCd|ALL}_n{pageSize}/p{pageNo:5}-{fetchedAt}.json.gz
+ * - 같은 페이지를 여러 번 받으면 fetchedAt 이 다른 파일로 쌓이고, 재생 시에는 가장 최근 것을 쓴다.
+ * - 응답을 끝까지 받은 페이지만 남긴다 (임시 파일에 쓰고 commit 시 이름 변경).
+ * - 한 범위는 한 pageSize 로만 보관되어야 재생할 수 있다 (보관 중에는 적재가 numOfRows 를 조정하지 않는다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawPageArchive {
+
+    private static final DateTimeFormatter FETCHED_AT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final AnimalApiProps props;
+
+    public boolean isEnabled() {
+        return props.getArchive().isEnabled();
+    }
+
+    /** 응답 스트림을 흘려 읽으면서 기록 (비활성화면 아무것도 하지 않는 기록기) */
+    public Recording record(LocalDate from, LocalDate to, String uprCd, int pageSize, int pageNo) {
+        if (!isEnabled()) return Recording.NOOP;
+        try {
+            Path dir = Files.createDirectories(rangeDir(from, to, uprCd, pageSize));
+            String name = String.format("p%05d-%s.json.gz", pageNo, LocalDateTime.now().format(FETCHED_AT));
+            Path tmp = Files.createTempFile(dir, ".p" + pageNo + "-", ".tmp");
+            return new Recording(tmp, dir.resolve(name));
+        } catch (IOException e) {
+            log.warn("archive disabled for page {}: {}", pageNo, e.getMessage());
+            return Recording.NOOP;
+        }
+    }
+
+    /** 이미 전부 받은 응답 바이트 보관 */
+    public void save(LocalDate from, LocalDate to, String uprCd, int pageSize, int pageNo, byte[] body) {
+        try (Recording r = record(from, to, uprCd, pageSize, pageNo);
+             InputStream in = r.wrap(new ByteArrayInputStream(body))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            r.commit();
+        } catch (IOException e) {
+            log.warn("archive write failed for page {}: {}", pageNo, e.getMessage());
+        }
+    }
+
+    /** 해당 페이지의 가장 최근 보관본 */
+    public Optional<Path> latest(LocalDate from, LocalDate to, String uprCd, int pageSize, int pageNo) {
+        Path dir = rangeDir(from, to, uprCd, pageSize);
+        if (!Files.isDirectory(dir)) return Optional.empty();
+        String prefix = String.format("p%05d-", pageNo);
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> {
+                        String n = f.getFileName().toString();
+                        return n.startsWith(prefix) && n.endsWith(".json.gz");
+                    })
+                    .max(Comparator.comparing(f -> f.getFileName().toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream open(Path file) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(file), 64 * 1024);
+    }
+
+    private Path rangeDir(LocalDate from, LocalDate to, String uprCd, int pageSize) {
+        String region = (uprCd == null || uprCd.isBlank()) ? "ALL" : uprCd.trim();
+        return Path.of(props.getArchive().getDir())
+                .resolve(from + "_" + to + "_" + region + "_n" + pageSize);
+    }
+
+    /** 페이지 1건 기록 — commit 하지 않고 close 하면 임시 파일을 지운다 */
+    public static class Recording implements Closeable {
+
+        static final Recording NOOP = new Recording(null, null);
+
+        private final Path tmp;
+        private final Path target;
+        private GZIPOutputStream out;
+        private boolean committed;
+
+        Recording(Path tmp, Path target) {
+            this.tmp = tmp;
+            this.target = target;
+        }
+
+        /** 읽은 바이트를 그대로 보관 파일에도 쓴다 */
+        public InputStream wrap(InputStream in) throws IOException {
+            if (tmp == null) return in;
+            out = new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024);
+            return new FilterInputStream(in) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) out.write(b);
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buf, int off, int len) throws IOException {
+                    int n = super.read(buf, off, len);
+                    if (n > 0) out.write(buf, off, n);
+                    return n;
+                }
+            };
+        }
+
+        public void commit() throws IOException {
+            if (tmp == null || out == null) return;
+            out.close();
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (tmp == null || committed) return;
+            try {
+                if (out != null) out.close();
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -13,6 +13,22 @@ public class YmdLocalDateDeserializer extends JsonDeserializer<LocalDate> {
   @Override public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
     String s = p.getValueAsString();
     if (s == null || s.isBlank()) return null;
-    return LocalDate.parse(s.trim(), F);
+    s = s.trim();
+    // 빠른 경로: 숫자 8자리는 포매터 없이 바로 계산 (1000행 페이지 × 날짜 3개)
+    if (s.length() == 8) {
+      int y = digits(s, 0, 4), m = digits(s, 4, 6), d = digits(s, 6, 8);
+      if (y >= 0 && m >= 0 && d >= 0) return LocalDate.of(y, m, d);
+    }
+    return LocalDate.parse(s, F);
+  }
+
+  private static int digits(String s, int from, int to) {
+    int v = 0;
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') return -1;
+      v = v * 10 + (c - '0');
+    }
+    return v;
   }
 }
@@ -0,0 +1,68 @@
+package com.matchpet.monitoring;
+
+/**
+ * 스레드(요청) 단위 SQL 실행 집계
+ * - SqlStatsSessionListener 가 Hibernate 를 거치는 JDBC 실행(문장 1개 또는 batch 1회 = 1)마다 기록한다.
+ * - SqlStatsFilter 가 요청마다 scope 를 열고, 테스트는 open() 으로 코드 블록의 쿼리 예산을 잰다.
+ * - JdbcTemplate 직접 호출(적재 경로)은 세지 않는다.
+ */
+public final class SqlStats {
+    private SqlStats() {}
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /** 새 집계 구간 — 닫을 때 바깥 구간에도 더해진다 (중첩 허용) */
+    public static Scope open() {
+        Scope s = new Scope(CURRENT.get());
+        CURRENT.set(s);
+        return s;
+    }
+
+    static void record(long nanos) {
+        Scope s = CURRENT.get();
+        if (s != null) s.add(nanos);
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int statements;
+        private long nanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(long n) {
+            statements++;
+            nanos += n;
+        }
+
+        /** JDBC 실행 횟수 (batch 는 한 번) */
+        public int statements() {
+            return statements;
+        }
+
+        /** JDBC 실행에 걸린 시간 합계 */
+        public long nanos() {
+            return nanos;
+        }
+
+        public long millis() {
+            return nanos / 1_000_000;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (parent != null) {
+                parent.statements += statements;
+                parent.nanos += nanos;
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.matchpet.monitoring;
+
+import com.matchpet.config.SqlStatsProps;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 실행 수/시간 → 메트릭 (엔드포인트 패턴 단위) + 응답 헤더(개발/스테이징)
+ * - http.server.sql.statements (요청당 실행 수 분포), http.server.sql.time (요청당 DB 시간)
+ * - 헤더는 본문을 쓰기 전에 붙여야 하므로 expose-headers=true 일 때만 응답을 버퍼링한다.
+ * - warn-threshold 를 넘는 요청은 경고 로그 (N+1 회귀 탐지용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatsProps props;
+    private final MeterRegistry meters;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = props.isExposeHeaders() ? new ContentCachingResponseWrapper(res) : null;
+        SqlStats.Scope scope = SqlStats.open();
+        try {
+            chain.doFilter(req, buffered != null ? buffered : res);
+        } finally {
+            scope.close();
+            record(req, res, scope);
+            if (buffered != null) {
+                if (!buffered.isCommitted()) {
+                    buffered.setHeader(COUNT_HEADER, String.valueOf(scope.statements()));
+                    buffered.setHeader(TIME_HEADER, String.valueOf(scope.millis()));
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest req, HttpServletResponse res, SqlStats.Scope scope) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = req.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("JDBC executions per request")
+                .tags("method", method, "uri", uri)
+                .register(meters)
+                .record(scope.statements());
+        Timer.builder("http.server.sql.time")
+                .description("JDBC time per request")
+                .tags("method", method, "uri", uri)
+                .register(meters)
+                .record(scope.nanos(), TimeUnit.NANOSECONDS);
+
+        if (scope.statements() > props.getWarnThreshold()) {
+            log.warn("SQL budget exceeded: {} {} → {} statements, {} ms (status {})",
+                    method, uri, scope.statements(), scope.millis(), res.getStatus());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.matchpet.monitoring;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Hibernate 세션마다 하나씩 생성 (hibernate.session.events.auto 로 등록)
+ * 세션은 한 스레드에서만 쓰이므로 시작 시각을 필드 하나로 둔다.
+ */
+public class SqlStatsSessionListener implements SessionEventListener {
+
+    private long started;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStats.record(System.nanoTime() - started);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStats.record(System.nanoTime() - started);
+    }
+}
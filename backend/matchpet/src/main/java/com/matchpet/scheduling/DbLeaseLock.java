@@ -0,0 +1,115 @@
+package com.matchpet.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB lease 잠금 (scheduler_locks: 이름별 owner + 만료 시각)
+ * - 시각은 모두 DB now(6) 기준이라 노드 간 시계 차이에 영향받지 않는다.
+ * - 잡기: 없으면 INSERT IGNORE, 있으면 만료됐거나 내 것일 때만 조건부 UPDATE (둘 다 한 문장, 자동 커밋)
+ * - 잡은 동안 leaseSeconds/3 마다 연장, 놓을 때는 minHold 만큼 남겨 두고 만료 시각만 당긴다.
+ */
+@Slf4j
+@Component
+public class DbLeaseLock {
+
+    private static final String INSERT_SQL =
+            "insert ignore into scheduler_locks (name, owner, lock_until, locked_at) " +
+            "values (?, ?, now(6) + interval ? second, now(6))";
+
+    private static final String TAKE_SQL =
+            "update scheduler_locks set owner = ?, lock_until = now(6) + interval ? second, locked_at = now(6) " +
+            "where name = ? and (lock_until <= now(6) or owner = ?)";
+
+    private static final String RENEW_SQL =
+            "update scheduler_locks set lock_until = now(6) + interval ? second where name = ? and owner = ?";
+
+    private static final String RELEASE_SQL =
+            "update scheduler_locks set lock_until = greatest(now(6), locked_at + interval ? second) " +
+            "where name = ? and owner = ?";
+
+    private final JdbcTemplate jdbc;
+    /** 노드(애플리케이션 컨텍스트) 식별자 — 같은 JVM 의 두 컨텍스트도 서로 다른 owner */
+    private final String owner;
+    private final ScheduledExecutorService heartbeats;
+
+    public DbLeaseLock(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "#" + UUID.randomUUID().toString().substring(0, 8);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lease-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    /** 잡으면 Lease (close 로 해제), 다른 노드가 잡고 있으면 empty */
+    public Optional<Lease> tryAcquire(String name, Duration lease, Duration minHold) {
+        long secs = Math.max(1, lease.toSeconds());
+        boolean got = jdbc.update(INSERT_SQL, name, owner, secs) == 1
+                || jdbc.update(TAKE_SQL, owner, secs, name, owner) == 1;
+        if (!got) return Optional.empty();
+
+        long period = Math.max(1, secs * 1000 / 3);
+        Lease l = new Lease(name, minHold);
+        l.heartbeat = heartbeats.scheduleAtFixedRate(() -> l.renew(secs), period, period, TimeUnit.MILLISECONDS);
+        return Optional.of(l);
+    }
+
+    /** 노드 종료 — 연장만 멈춘다 (실행 중이던 작업의 lease 는 만료되면 다른 노드가 가져감) */
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final String name;
+        private final Duration minHold;
+        private volatile ScheduledFuture<?> heartbeat;
+        private volatile boolean lost;
+
+        private Lease(String name, Duration minHold) {
+            this.name = name;
+            this.minHold = minHold;
+        }
+
+        /** 연장 실패(만료 후 다른 노드가 가져감) 여부 — 긴 작업은 중간에 확인해 멈출 수 있다 */
+        public boolean isLost() {
+            return lost;
+        }
+
+        private void renew(long secs) {
+            try {
+                if (jdbc.update(RENEW_SQL, secs, name, owner) != 1) {
+                    lost = true;
+                    log.warn("lease {} lost by {}", name, owner);
+                    heartbeat.cancel(false);
+                }
+            } catch (RuntimeException e) {
+                // DB 일시 장애 — 다음 주기에 다시 시도 (그동안 만료되면 다른 노드가 가져간다)
+                log.warn("lease {} renew failed: {}", name, e.toString());
+            }
+        }
+
+        @Override
+        public void close() {
+            heartbeat.cancel(false);
+            if (!lost) jdbc.update(RELEASE_SQL, minHold.toSeconds(), name, owner);
+        }
+    }
+}
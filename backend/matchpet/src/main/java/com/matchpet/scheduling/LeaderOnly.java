@@ -0,0 +1,27 @@
+package com.matchpet.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행할 백그라운드 작업 (보통 @Scheduled 메서드에 함께 붙인다)
+ * - 호출 시 scheduler_locks 의 같은 이름 lease 를 잡은 노드만 실행하고, 나머지는 조용히 건너뛴다(null 반환).
+ * - 실행 중에는 lease 를 주기적으로 연장하고, 노드가 죽으면 leaseSeconds 뒤 다른 노드가 가져간다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {
+
+    /** lock 이름 (비우면 클래스명.메서드명) */
+    String value() default "";
+
+    /** lease 길이 — 연장이 끊기면 이만큼 뒤에 다른 노드가 넘겨받는다 */
+    int leaseSeconds() default 30;
+
+    /** 끝난 뒤에도 최소 이만큼은 잡고 있는다 (노드마다 조금씩 늦게 도는 같은 cron 회차가 다시 실행되지 않게) */
+    int minHoldSeconds() default 5;
+}
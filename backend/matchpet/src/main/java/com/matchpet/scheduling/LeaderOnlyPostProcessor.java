@@ -0,0 +1,70 @@
+package com.matchpet.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * @LeaderOnly 가 붙은 빈을 프록시로 감싸 호출마다 DbLeaseLock 을 거치게 한다 (@Async 와 같은 방식, AspectJ 불필요)
+ * DbLeaseLock 은 첫 호출 때 꺼낸다 — 후처리기가 DataSource 를 일찍 초기화하지 않게.
+ */
+@Slf4j
+@Component
+public class LeaderOnlyPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private transient BeanFactory beanFactory;
+
+    public LeaderOnlyPostProcessor() {
+        setBeforeExistingAdvisors(true);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+        this.beanFactory = beanFactory;
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(LeaderOnly.class, true))
+                .union(new AnnotationMatchingPointcut(null, LeaderOnly.class, true));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, new Interceptor());
+    }
+
+    private final class Interceptor implements MethodInterceptor {
+        private volatile DbLeaseLock lock;
+
+        @Override
+        public Object invoke(MethodInvocation inv) throws Throwable {
+            Method m = inv.getMethod();
+            Class<?> type = inv.getThis() != null ? inv.getThis().getClass() : m.getDeclaringClass();
+            LeaderOnly ann = AnnotatedElementUtils.findMergedAnnotation(m, LeaderOnly.class);
+            if (ann == null) ann = AnnotatedElementUtils.findMergedAnnotation(type, LeaderOnly.class);
+            if (ann == null) return inv.proceed();
+
+            String name = ann.value().isEmpty() ? type.getSimpleName() + "." + m.getName() : ann.value();
+            Optional<DbLeaseLock.Lease> lease = lock().tryAcquire(name,
+                    Duration.ofSeconds(ann.leaseSeconds()), Duration.ofSeconds(ann.minHoldSeconds()));
+            if (lease.isEmpty()) {
+                log.debug("skip {} — held by another node", name);
+                return null;
+            }
+            try (DbLeaseLock.Lease ignored = lease.get()) {
+                return inv.proceed();
+            }
+        }
+
+        private DbLeaseLock lock() {
+            DbLeaseLock l = lock;
+            if (l == null) lock = l = beanFactory.getBean(DbLeaseLock.class);
+            return l;
+        }
+    }
+}
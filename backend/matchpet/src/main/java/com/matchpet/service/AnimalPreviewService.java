@@ -0,0 +1,29 @@
+package com.matchpet.service;
+
+import com.matchpet.external.AnimalApiClient;
+import com.matchpet.external.dto.ExternalResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 외부 API 미리보기 (관리자 화면 페이징용)
+ * - (from, to, region, pageNo, pageSize) 별로 응답을 Caffeine 에 잠시 보관 — 만료/최대 건수는 spring.cache.caffeine.spec
+ * - sync=true: 같은 키 동시 요청은 한 번만 외부 호출하고 나머지는 그 결과를 기다린다
+ * - 예외는 캐시하지 않는다 (다음 요청에서 다시 호출). resultCode ≠ "00" 오류 페이지도 AnimalApiClient.call 이 예외로 올린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnimalPreviewService {
+
+    public static final String CACHE = "animalPreview";
+
+    private final AnimalApiClient api;
+
+    @Cacheable(cacheNames = CACHE, sync = true)
+    public ExternalResponse preview(LocalDate from, LocalDate to, String uprCd, int pageNo, int pageSize) {
+        return api.call(from, to, uprCd, pageNo, pageSize);
+    }
+}
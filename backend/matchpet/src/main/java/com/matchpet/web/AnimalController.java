@@ -3,6 +3,8 @@ package com.matchpet.web;
 import com.matchpet.domain.animal.dto.AnimalMapper;
 import com.matchpet.domain.animal.entity.Animal;
 import com.matchpet.domain.animal.repository.AnimalRepository;
+import com.matchpet.domain.animal.support.AnimalNormalizer;
+import com.matchpet.domain.match.SpecialMarkEnricher;
 import com.matchpet.web.dto.AnimalCreateRequest;
 import com.matchpet.web.dto.CardDto;
 import lombok.RequiredArgsConstructor;
@@ -26,12 +28,14 @@ import java.util.UUID;
 public class AnimalController {
 
     private final AnimalRepository repo;
+    private final AnimalNormalizer normalizer;
+    private final SpecialMarkEnricher specialMarks;
 
     /** 탐색/대시보드 리스트 */
     @GetMapping
     public Page<CardDto> list(
             @RequestParam(required = false) String careNm,
-            @RequestParam(required = false) String status, // AVAILABLE 등 (서비스 status)
+            @RequestParam(required = false) String status, // AVAILABLE 등 (서비스 status, 없으면 CLOSED 제외)
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String sort
@@ -44,9 +48,9 @@ public class AnimalController {
             result = repo.findByCareNmContainingIgnoreCaseAndStatus(
                     careNm, Animal.Status.valueOf(status), pageable);
         } else if (careNm != null) {
-            result = repo.findByCareNmContainingIgnoreCase(careNm, pageable);
+            result = repo.findByCareNmContainingIgnoreCaseAndStatusNot(careNm, Animal.Status.CLOSED, pageable);
         } else {
-            result = repo.findAll(pageable);
+            result = repo.findByStatusNot(Animal.Status.CLOSED, pageable);
         }
         return result.map(AnimalMapper::toCard);
     }
@@ -66,6 +70,8 @@ public class AnimalController {
         // 서비스 상태 기본값 보강 (필요 시)
         if (entity.getStatus() == null) entity.setStatus(Animal.Status.AVAILABLE);
         if (entity.getCreatedAt() == null) entity.setCreatedAt(LocalDateTime.now());
+        normalizer.apply(entity);
+        specialMarks.apply(entity);
         Animal saved = repo.save(entity);
         return AnimalMapper.toCard(saved);
     }
@@ -107,7 +113,7 @@ public class AnimalController {
         return AnimalMapper.toCard(saved);
     }
 
-    /** 상태 변경(보호소) – AVAILABLE/MATCHING/CONNECTED/RETURNED */
+    /** 상태 변경(보호소) – AVAILABLE/MATCHING/CONNECTED/RETURNED/CLOSED */
     @PatchMapping("/{id}/status")
     public CardDto updateStatus(@PathVariable Long id,
                                 @RequestParam("status") String status) {
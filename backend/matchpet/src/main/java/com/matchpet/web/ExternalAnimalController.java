@@ -1,10 +1,13 @@
 package com.matchpet.web;
 
-import com.matchpet.external.AnimalApiClient;
+import com.matchpet.external.AnimalApiResultException;
 import com.matchpet.external.dto.ExternalResponse;
+import com.matchpet.service.AnimalPreviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -16,10 +19,10 @@ public class ExternalAnimalController {
 
     private static final DateTimeFormatter BASIC = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
 
-    private final AnimalApiClient api;
+    private final AnimalPreviewService previews;
 
     /**
-     * 외부 API 미리보기(페이징 포함).
+     * 외부 API 미리보기(페이징 포함). 같은 조건은 잠시 캐시된 응답을 돌려준다 (AnimalPreviewService)
      * 예) GET /api/external/animals?from=2025-08-01&to=2025-08-14&region=6260000&pageNo=1&pageSize=10
      */
     @GetMapping("/animals")
@@ -32,8 +35,13 @@ public class ExternalAnimalController {
     ) {
         LocalDate f = parseDateFlexible(from);
         LocalDate t = parseDateFlexible(to);
-        ExternalResponse r = api.call(f, t, uprCd, pageNo, pageSize);
-        return ResponseEntity.ok(r);
+        String region = (uprCd == null || uprCd.isBlank()) ? null : uprCd.trim();
+        try {
+            return ResponseEntity.ok(previews.preview(f, t, region, pageNo, pageSize));
+        } catch (AnimalApiResultException e) {
+            // 상류가 HTTP 200 으로 돌려준 오류 (키 한도 초과 등)
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, e.getMessage(), e);
+        }
     }
 
     /** yyyy-MM-dd 또는 yyyyMMdd 둘 다 허용 */
@@ -1,12 +1,22 @@
 package com.matchpet.web.admin;
 
-import com.matchpet.service.AnimalIngestService;
+import com.matchpet.domain.ingest.engine.IngestEngine;
+import com.matchpet.domain.ingest.engine.IngestSink;
+import com.matchpet.domain.ingest.job.IngestJob;
+import com.matchpet.domain.ingest.job.IngestJobService;
+import com.matchpet.domain.ingest.shard.BackfillService;
+import com.matchpet.domain.ingest.source.AbandonmentApiSource;
+import com.matchpet.domain.ingest.source.ArchiveReplaySource;
+import com.matchpet.domain.ingest.sync.IncrementalSyncService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -16,22 +26,116 @@ public class IngestController {
 
     private static final DateTimeFormatter BASIC = DateTimeFormatter.BASIC_ISO_DATE;
     
-    private final AnimalIngestService ingestService;
+    private final IngestJobService jobService;
+    private final IncrementalSyncService syncService;
+    private final ArchiveReplaySource replaySource;
+    private final BackfillService backfillService;
+    private final AbandonmentApiSource apiSource;
+    private final IngestEngine engine;
 
+    /**
+     * 적재 작업 제출 (백그라운드 실행) → 202 + jobId
+     * 같은 range/region 작업이 이미 대기·실행 중이면 그 작업을 200 으로 돌려준다.
+     * pageSize 는 시작 크기 — 실행 중에는 응답 시간에 따라 조정된다 (animal.ingest.adaptive.*)
+     * mode: batch(기본, JDBC batch upsert) | bulk(TSV 스풀 + LOAD DATA + 스테이징 병합, 초기/복구 적재용)
+     */
     @PostMapping("/animals")
     public ResponseEntity<Map<String, Object>> ingest(@RequestParam String from,
                                                       @RequestParam String to,
                                                       @RequestParam(required = false, name = "region") String uprCd,
-                                                      @RequestParam(defaultValue = "500", name = "pageSize") int pageSize) {
+                                                      @RequestParam(defaultValue = "1000", name = "pageSize") int pageSize,
+                                                      @RequestParam(required = false) String mode) {
         LocalDate f = parseDateFlexible(from);
         LocalDate t = parseDateFlexible(to);
-        var c = ingestService.ingest(f, t, uprCd, Math.min(pageSize, 1000));
-        return ResponseEntity.ok(Map.of(
-                "status", "OK",
-                "total", c.getTotal(),
-                "inserted", c.getInserted(),
-                "updated", c.getUpdated()
-        ));
+        var s = jobService.submit(apiSource, sink(mode), f, t, uprCd, Math.min(pageSize, 1000), null);
+        Map<String, Object> body = s.job().snapshot();
+        body.put("deduplicated", s.deduplicated());
+        body.put("statusUrl", "/api/internal/ingest/jobs/" + s.job().getId());
+        return ResponseEntity.status(s.deduplicated() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(body);
+    }
+
+    /**
+     * 보관된 원본 페이지(animal.api.archive)로 재적재 — 외부 API 호출 없음
+     * pageSize 는 보관할 때와 같아야 한다.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Object>> replay(@RequestParam String from,
+                                                      @RequestParam String to,
+                                                      @RequestParam(required = false, name = "region") String uprCd,
+                                                      @RequestParam(defaultValue = "500", name = "pageSize") int pageSize) {
+        var s = jobService.submit(replaySource, parseDateFlexible(from), parseDateFlexible(to), uprCd,
+                Math.min(pageSize, 1000), null);
+        Map<String, Object> body = s.job().snapshot();
+        body.put("deduplicated", s.deduplicated());
+        body.put("statusUrl", "/api/internal/ingest/jobs/" + s.job().getId());
+        return ResponseEntity.status(s.deduplicated() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(body);
+    }
+
+    /**
+     * 분산 backfill 등록 → 202 + backfillKey
+     * region(쉼표 구분) × shardDays 기간으로 나눠 ingest_shards 큐에 넣고, 워커가 켜진 노드들이 나눠 실행한다.
+     * 같은 조건으로 다시 요청하면 기존 backfill 을 200 으로 돌려준다.
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> backfill(@RequestParam String from,
+                                                        @RequestParam String to,
+                                                        @RequestParam(required = false, name = "region") List<String> regions,
+                                                        @RequestParam(required = false) Integer shardDays,
+                                                        @RequestParam(defaultValue = "1000", name = "pageSize") int pageSize,
+                                                        @RequestParam(required = false) String mode) {
+        var plan = backfillService.submit(parseDateFlexible(from), parseDateFlexible(to), regions, shardDays,
+                Math.min(pageSize, 1000), sink(mode).name());
+        Map<String, Object> body = backfillService.status(plan.backfillKey());
+        body.put("deduplicated", plan.existing());
+        body.put("statusUrl", "/api/internal/ingest/backfill?key=" + plan.backfillKey());
+        return ResponseEntity.status(plan.existing() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(body);
+    }
+
+    @GetMapping("/backfill")
+    public Map<String, Object> backfillStatus(@RequestParam String key) {
+        Map<String, Object> body = backfillService.status(key);
+        if ((int) body.get("shards") == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Backfill " + key + " not found");
+        }
+        return body;
+    }
+
+    /** 증분 동기화 즉시 실행 (스케줄러와 같은 창 계산) */
+    @PostMapping("/sync")
+    public ResponseEntity<List<Map<String, Object>>> sync() {
+        List<Map<String, Object>> body = syncService.runOnce().stream().map(s -> {
+            Map<String, Object> m = s.job().snapshot();
+            m.put("deduplicated", s.deduplicated());
+            return m;
+        }).toList();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+    }
+
+    @GetMapping("/jobs")
+    public List<Map<String, Object>> jobs() {
+        return jobService.list().stream().map(IngestJob::snapshot).toList();
+    }
+
+    @GetMapping("/jobs/{id}")
+    public Map<String, Object> job(@PathVariable String id) {
+        return jobService.get(id).map(IngestJob::snapshot).orElseThrow(() -> notFound(id));
+    }
+
+    @DeleteMapping("/jobs/{id}")
+    public Map<String, Object> cancel(@PathVariable String id) {
+        return jobService.cancel(id).map(IngestJob::snapshot).orElseThrow(() -> notFound(id));
+    }
+
+    private IngestSink sink(String mode) {
+        try {
+            return engine.sink(mode);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static ResponseStatusException notFound(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Ingest job " + id + " not found");
     }
 
     /** yyyy-MM-dd 또는 yyyyMMdd 허용 */
@@ -0,0 +1,10 @@
+-- backfill shard 의 쓰기 단계 (IngestShard.sink, null = 기본 sink)
+-- V4 이후 엔티티에 추가된 컬럼이라 ddl-auto(update)가 이미 만들었을 수 있다 → 없을 때만 추가
+SET @sql = IF(
+  NOT EXISTS (SELECT 1 FROM information_schema.columns
+              WHERE table_schema = DATABASE() AND table_name = 'ingest_shards' AND column_name = 'sink'),
+  'ALTER TABLE ingest_shards ADD COLUMN sink VARCHAR(20) NULL',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,18 @@
+-- 적재 재개 지점 (range + uprCd 단위, 페이지 커밋마다 last_page 갱신)
+CREATE TABLE IF NOT EXISTS ingest_checkpoints (
+  id          BIGINT       NOT NULL AUTO_INCREMENT,
+  job_key     VARCHAR(120) NOT NULL,
+  source      VARCHAR(40)  NOT NULL,
+  from_date   DATE         NOT NULL,
+  to_date     DATE         NOT NULL,
+  upr_cd      VARCHAR(20)  NULL,
+  page_size   INT          NOT NULL,
+  last_page   INT          NOT NULL DEFAULT 0,
+  total_pages INT          NULL,
+  status      VARCHAR(20)  NOT NULL,
+  last_error  VARCHAR(500) NULL,
+  started_at  DATETIME(6)  NULL,
+  updated_at  DATETIME(6)  NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_ingest_checkpoints_job_key (job_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
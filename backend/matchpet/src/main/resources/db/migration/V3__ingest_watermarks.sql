@@ -0,0 +1,13 @@
+-- 증분 동기화 high-water mark (source + upr_cd 단위, 성공한 실행마다 갱신)
+CREATE TABLE IF NOT EXISTS ingest_watermarks (
+  id              BIGINT      NOT NULL AUTO_INCREMENT,
+  source          VARCHAR(40) NOT NULL,
+  upr_cd          VARCHAR(20) NOT NULL,
+  high_water_dt   DATE        NULL,
+  last_success_to DATE        NULL,
+  last_success_at DATETIME(6) NULL,
+  last_rows       INT         NULL,
+  updated_at      DATETIME(6) NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_ingest_watermarks_source_region (source, upr_cd)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
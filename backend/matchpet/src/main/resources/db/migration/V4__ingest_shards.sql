@@ -0,0 +1,24 @@
+-- 분산 적재 작업 큐 (backfill 하나 = upr_cd × 기간 shard 여러 개, 워커가 lease 로 점유)
+CREATE TABLE IF NOT EXISTS ingest_shards (
+  id            BIGINT       NOT NULL AUTO_INCREMENT,
+  backfill_key  VARCHAR(120) NOT NULL,
+  source        VARCHAR(40)  NOT NULL,
+  upr_cd        VARCHAR(20)  NOT NULL,
+  from_date     DATE         NOT NULL,
+  to_date       DATE         NOT NULL,
+  page_size     INT          NOT NULL,
+  status        VARCHAR(20)  NOT NULL,
+  owner         VARCHAR(120) NULL,
+  lease_until   DATETIME(6)  NULL,
+  attempts      INT          NOT NULL DEFAULT 0,
+  total_rows    INT          NULL,
+  inserted      INT          NULL,
+  updated       INT          NULL,
+  retired       INT          NULL,
+  last_error    VARCHAR(500) NULL,
+  created_at    DATETIME(6)  NULL,
+  updated_at    DATETIME(6)  NULL,
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_ingest_shards_slot (backfill_key, upr_cd, from_date),
+  KEY idx_ingest_shards_claim (status, lease_until)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
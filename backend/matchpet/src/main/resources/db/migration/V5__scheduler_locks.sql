@@ -0,0 +1,8 @@
+-- 클러스터 작업 잠금 (@LeaderOnly) — 이름별 owner + 만료 시각(DB 시각 기준)
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+  name       VARCHAR(64)  NOT NULL,
+  owner      VARCHAR(120) NOT NULL,
+  lock_until DATETIME(6)  NOT NULL,
+  locked_at  DATETIME(6)  NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,26 @@
+-- 배치 가능한 id 발급 (Hibernate @TableGenerator pooled-lo + JDBC 적재 경로가 같은 행에서 블록 단위로 가져감)
+-- next_val = 다음 블록의 시작 값. 기존 AUTO_INCREMENT 값과 겹치지 않게 max(id)+1 에서 시작
+CREATE TABLE IF NOT EXISTS id_sequences (
+  sequence_name VARCHAR(64) NOT NULL,
+  next_val      BIGINT      NOT NULL,
+  PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- animals / applications 는 JPA(ddl-auto)가 만드는 테이블이라 새 DB 에서는 아직 없을 수 있다
+SET @has_animals = (SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'animals');
+SET @sql = IF(@has_animals > 0,
+  'INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT ''animals'', COALESCE(MAX(id), 0) + 1 FROM animals',
+  'INSERT IGNORE INTO id_sequences (sequence_name, next_val) VALUES (''animals'', 1)');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_applications = (SELECT COUNT(*) FROM information_schema.tables
+                         WHERE table_schema = DATABASE() AND table_name = 'applications');
+SET @sql = IF(@has_applications > 0,
+  'INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT ''applications'', COALESCE(MAX(id), 0) + 1 FROM applications',
+  'INSERT IGNORE INTO id_sequences (sequence_name, next_val) VALUES (''applications'', 1)');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,103 @@
+-- 조회 실행계획 회귀 테스트(QueryPlanRegressionTest)가 요구하는 보조 인덱스
+-- animals / applications 는 JPA(ddl-auto)가 만드는 테이블이라 새 DB 에서는 아직 없을 수 있다 → 테이블이 있고 인덱스가 없을 때만 생성
+-- (새 DB 는 엔티티 @Table(indexes) 에 같은 이름으로 적어 두어 ddl-auto 가 만든다)
+-- InnoDB 보조 인덱스 추가는 online DDL(INPLACE, LOCK=NONE)이라 쓰기를 막지 않는다
+
+-- 보호소명 검색 count(커버링) / existsByCareNm / 보호소명 목록(distinct)
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_care_nm_status'),
+  'CREATE INDEX idx_animals_care_nm_status ON animals (care_nm, status)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findByDesertionNo, 적재 키 조회(findKeys)의 OR 절 → index_merge
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_desertion_no'),
+  'CREATE INDEX idx_animals_desertion_no ON animals (desertion_no)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 추천 후보 count (risk_level IN / IS NULL + status <> CLOSED 커버링)
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_risk_status'),
+  'CREATE INDEX idx_animals_risk_status ON animals (risk_level, status)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 보호소별 신청 목록의 animals 조인
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_shelter'),
+  'CREATE INDEX idx_animals_shelter ON animals (shelter_id)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 전체 지역 정리(retireUnseen, upr_cd 없음): status + 기간 범위
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_status_happen'),
+  'CREATE INDEX idx_animals_status_happen ON animals (status, happen_dt)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 신청 전체 목록 (created_at desc 정렬 + limit)
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'applications')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'applications' AND index_name = 'idx_applications_created'),
+  'CREATE INDEX idx_applications_created ON applications (created_at)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 시니어별 신청 목록
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'applications')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'applications' AND index_name = 'idx_applications_senior_created'),
+  'CREATE INDEX idx_applications_senior_created ON applications (senior_id, created_at)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 동물별 신청 목록 / 보호소별 조회의 조인 대상
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'applications')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'applications' AND index_name = 'idx_applications_animal_created'),
+  'CREATE INDEX idx_applications_animal_created ON applications (animal_id, created_at)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 상태별 신청 목록
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'applications')
+  AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'applications' AND index_name = 'idx_applications_status_created'),
+  'CREATE INDEX idx_applications_status_created ON applications (status, created_at)',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,53 @@
+-- V7 이 더한 (risk_level, status) / (status, happen_dt) 는 기존 idx_animals_risk_level (risk_level, id) /
+-- idx_animals_status (status, id) 와 앞 컬럼이 겹친다 → 기존 인덱스를 넓히고 V7 쪽은 지운다
+--   idx_animals_risk_level : (risk_level, id)  → (risk_level, status, id)   추천 후보 count 커버링
+--   idx_animals_status     : (status, id)      → (status, happen_dt, id)   전체 지역 정리(retireUnseen) 기간 범위
+-- InnoDB 보조 인덱스는 끝에 PK(id)가 붙으므로 status 만 거르는 조회는 그대로 쓴다
+-- animals 는 JPA(ddl-auto)가 만드는 테이블 → 테이블이 있을 때만, 이미 새 모양이면 건너뛴다 (새 DB 는 엔티티 @Table(indexes) 로 생성)
+-- 넓히기는 DROP + ADD 를 한 ALTER 로 묶어 인덱스가 비는 순간이 없게 한다 (online DDL, LOCK=NONE)
+
+SET @sql = IF(
+  NOT EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  OR EXISTS (SELECT 1 FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_risk_level'
+               AND seq_in_index = 2 AND column_name = 'status'),
+  'DO 0',
+  IF(EXISTS (SELECT 1 FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_risk_level'),
+     'ALTER TABLE animals DROP INDEX idx_animals_risk_level, ADD INDEX idx_animals_risk_level (risk_level, status, id), ALGORITHM=INPLACE, LOCK=NONE',
+     'CREATE INDEX idx_animals_risk_level ON animals (risk_level, status, id)'));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.statistics
+          WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_risk_status'),
+  'DROP INDEX idx_animals_risk_status ON animals',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+  NOT EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'animals')
+  OR EXISTS (SELECT 1 FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_status'
+               AND seq_in_index = 2 AND column_name = 'happen_dt'),
+  'DO 0',
+  IF(EXISTS (SELECT 1 FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_status'),
+     'ALTER TABLE animals DROP INDEX idx_animals_status, ADD INDEX idx_animals_status (status, happen_dt, id), ALGORITHM=INPLACE, LOCK=NONE',
+     'CREATE INDEX idx_animals_status ON animals (status, happen_dt, id)'));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+  EXISTS (SELECT 1 FROM information_schema.statistics
+          WHERE table_schema = DATABASE() AND table_name = 'animals' AND index_name = 'idx_animals_status_happen'),
+  'DROP INDEX idx_animals_status_happen ON animals',
+  'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
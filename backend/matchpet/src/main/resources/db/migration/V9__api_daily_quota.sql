@@ -0,0 +1,7 @@
+-- 외부 API 일일 호출 한도 (DbAnimalApiQuota) — 노드 합산, 날짜(KST)별 사용 건수
+CREATE TABLE IF NOT EXISTS api_daily_quota (
+  name      VARCHAR(64) NOT NULL,
+  quota_day DATE        NOT NULL,
+  used      INT         NOT NULL,
+  PRIMARY KEY (name, quota_day)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
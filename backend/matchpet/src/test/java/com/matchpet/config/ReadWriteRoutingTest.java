@@ -0,0 +1,158 @@
+package com.matchpet.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 라우팅 (Testcontainers MySQL 2대 — primary / replica 역할)
+ * 두 서버는 복제로 묶지 않고 @@server_uuid 로 어느 쪽에서 실행됐는지만 본다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadWriteRoutingTest {
+
+    private static final long STICKY_MS = 1500;
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", primary::getJdbcUrl);
+        r.add("spring.datasource.username", primary::getUsername);
+        r.add("spring.datasource.password", primary::getPassword);
+        r.add("app.read-routing.enabled", () -> "true");
+        r.add("app.read-routing.replica.url", replica::getJdbcUrl);
+        r.add("app.read-routing.replica.username", replica::getUsername);
+        r.add("app.read-routing.replica.password", replica::getPassword);
+        r.add("app.read-routing.replica.connection-timeout-ms", () -> "1000");
+        r.add("app.read-routing.sticky-ms", () -> String.valueOf(STICKY_MS));
+        r.add("app.read-routing.lag-check-ms", () -> "3600000"); // 테스트에서 직접 호출
+        r.add("animal.api.encoding-key", () -> "test-key");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager em;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired ReplicaLagGuard guard;
+
+    String primaryUuid;
+    String replicaUuid;
+
+    @BeforeAll
+    void serverIds() {
+        primaryUuid = new JdbcTemplate(dataSource(primary)).queryForObject("select @@server_uuid", String.class);
+        replicaUuid = new JdbcTemplate(dataSource(replica)).queryForObject("select @@server_uuid", String.class);
+        assertThat(primaryUuid).isNotEqualTo(replicaUuid);
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        assertThat(readOnly()).isEqualTo(replicaUuid);
+        assertThat(readWrite()).isEqualTo(primaryUuid);
+        assertThat(jdbc.queryForObject("select @@server_uuid", String.class)).isEqualTo(primaryUuid);
+
+        // JPA 경로도 같은 규칙 (Spring Data 조회 메서드는 readOnly 트랜잭션)
+        TransactionTemplate ro = tx(true);
+        assertThat(ro.execute(s -> em.createNativeQuery("select @@server_uuid").getSingleResult()))
+                .isEqualTo(replicaUuid);
+    }
+
+    @Test
+    @Order(2)
+    void userReadsOwnWritesFromPrimaryUntilStickyWindowEnds() throws Exception {
+        as("alice");
+        readWrite();
+        assertThat(readOnly()).isEqualTo(primaryUuid);
+
+        as("bob");
+        assertThat(readOnly()).isEqualTo(replicaUuid);
+
+        Thread.sleep(STICKY_MS + 200);
+        as("alice");
+        assertThat(readOnly()).isEqualTo(replicaUuid);
+    }
+
+    @Test
+    @Order(3)
+    void rolledBackWriteDoesNotPinUser() {
+        as("carol");
+        tx(false).executeWithoutResult(s -> {
+            jdbc.queryForObject("select 1", Integer.class);
+            s.setRollbackOnly();
+        });
+        assertThat(readOnly()).isEqualTo(replicaUuid);
+    }
+
+    @Test
+    @Order(4)
+    void unreachableReplicaFallsBackToPrimary() {
+        guard.checkLag();
+        assertThat(guard.isReplicaHealthy()).isTrue();
+
+        replica.stop();
+        guard.checkLag();
+
+        assertThat(guard.isReplicaHealthy()).isFalse();
+        assertThat(readOnly()).isEqualTo(primaryUuid);
+    }
+
+    private String readOnly() {
+        return tx(true).execute(s -> jdbc.queryForObject("select @@server_uuid", String.class));
+    }
+
+    private String readWrite() {
+        return tx(false).execute(s -> jdbc.queryForObject("select @@server_uuid", String.class));
+    }
+
+    private TransactionTemplate tx(boolean readOnly) {
+        TransactionTemplate t = new TransactionTemplate(txManager);
+        t.setReadOnly(readOnly);
+        return t;
+    }
+
+    private static void as(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, AuthorityUtils.createAuthorityList("ROLE_SENIOR")));
+    }
+
+    private static DataSource dataSource(MySQLContainer<?> c) {
+        return new DriverManagerDataSource(c.getJdbcUrl(), c.getUsername(), c.getPassword());
+    }
+}
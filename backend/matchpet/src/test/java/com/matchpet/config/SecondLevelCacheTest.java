@@ -0,0 +1,122 @@
+package com.matchpet.config;
+
+import com.matchpet.domain.senior.entity.Senior;
+import com.matchpet.domain.senior.entity.SeniorProfile;
+import com.matchpet.domain.senior.repository.SeniorProfileRepository;
+import com.matchpet.domain.senior.repository.SeniorRepository;
+import com.matchpet.domain.shelter.entity.Shelter;
+import com.matchpet.domain.shelter.repository.ShelterRepository;
+import com.matchpet.monitoring.SqlStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조성 엔티티 2차 캐시 (Testcontainers MySQL)
+ * - 두 번째 조회는 SQL 없이 캐시에서, 쓰기 후에는 새 값
+ * - seniors 를 공유하는 Senior / SeniorProfile 은 한쪽 쓰기로 다른 쪽 캐시도 무효화
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 조회마다 새 세션 (1차 캐시 배제)
+class SecondLevelCacheTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", mysql::getJdbcUrl);
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired ShelterRepository shelters;
+    @Autowired SeniorRepository seniors;
+    @Autowired SeniorProfileRepository seniorProfiles;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PlatformTransactionManager txManager;
+
+    TransactionTemplate tx;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        SessionFactory sf = emf.unwrap(SessionFactory.class);
+        sf.getCache().evictAllRegions();
+        stats = sf.getStatistics();
+        stats.clear();
+    }
+
+    @Test
+    void secondLookupByIdIsServedFromCache() {
+        Long id = tx.execute(s -> shelters.save(shelter("EXT-1", "행복보호소")).getId());
+        emf.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        assertThat(statements(() -> tx.execute(s -> shelters.findById(id).orElseThrow()))).isEqualTo(1);
+        assertThat(statements(() -> tx.execute(s -> shelters.findById(id).orElseThrow()))).isZero();
+        assertThat(stats.getDomainDataRegionStatistics("ref.shelter").getHitCount()).isPositive();
+
+        tx.executeWithoutResult(s -> shelters.findById(id).orElseThrow().setName("새이름보호소"));
+        assertThat(tx.execute(s -> shelters.findById(id).orElseThrow().getName())).isEqualTo("새이름보호소");
+    }
+
+    @Test
+    void writeThroughOneMappingEvictsTheOtherMappingOfSeniors() {
+        tx.executeWithoutResult(s -> {
+            SeniorProfile p = new SeniorProfile();
+            p.setUserId(77L);
+            p.setName("김시니어");
+            p.setAddress("서울");
+            seniorProfiles.save(p);
+        });
+        // 두 매핑 모두 캐시에 올림
+        assertThat(tx.execute(s -> seniors.findById(77L).orElseThrow().getName())).isEqualTo("김시니어");
+        assertThat(tx.execute(s -> seniorProfiles.findById(77L).orElseThrow().getName())).isEqualTo("김시니어");
+
+        tx.executeWithoutResult(s -> seniors.findById(77L).orElseThrow().setName("이시니어"));
+        assertThat(tx.execute(s -> seniorProfiles.findById(77L).orElseThrow().getName())).isEqualTo("이시니어");
+
+        tx.executeWithoutResult(s -> seniorProfiles.findById(77L).orElseThrow().setName("박시니어"));
+        assertThat(tx.execute(s -> seniors.findById(77L).orElseThrow().getName())).isEqualTo("박시니어");
+    }
+
+    private static int statements(Supplier<?> work) {
+        try (SqlStats.Scope scope = SqlStats.open()) {
+            work.get();
+            return scope.statements();
+        }
+    }
+
+    private static Shelter shelter(String externalId, String name) {
+        Shelter s = new Shelter();
+        s.setExternalId(externalId);
+        s.setName(name);
+        s.setAddress(name + " 주소");
+        return s;
+    }
+}
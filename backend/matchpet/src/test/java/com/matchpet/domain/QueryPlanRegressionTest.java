@@ -0,0 +1,582 @@
+package com.matchpet.domain;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.config.BulkLoadConnectionPool;
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.enums.ProcessState;
+import com.matchpet.domain.animal.repository.AnimalBulkRepository;
+import com.matchpet.domain.animal.repository.AnimalRepository;
+import com.matchpet.domain.animal.repository.IdSequenceRepository;
+import com.matchpet.domain.application.enums.ApplicationStatus;
+import com.matchpet.domain.application.repository.ApplicationRepository;
+import com.matchpet.domain.ingest.entity.IngestCheckpoint;
+import com.matchpet.domain.ingest.entity.IngestShard;
+import com.matchpet.domain.ingest.repository.IngestCheckpointRepository;
+import com.matchpet.domain.ingest.repository.IngestShardRepository;
+import com.matchpet.domain.ingest.repository.IngestWatermarkRepository;
+import com.matchpet.domain.match.SpecialMarkClassifier.RiskLevel;
+import com.matchpet.domain.shelter.repository.ShelterRepository;
+import com.matchpet.domain.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 실행계획 회귀 테스트 (Testcontainers MySQL)
+ * - 운영과 비슷한 분포의 합성 데이터(동물 5만 / 신청 2만 / 시니어 5천 …)를 싣고 analyze table 로 통계를 맞춘다.
+ * - 리포지토리 쿼리 메서드를 실제로 호출해 나간 SQL 과 바인딩 값을 가로채고, 같은 값으로 EXPLAIN 한다.
+ * - 계획 중 full table scan(type=ALL) 또는 filesort 의 예상 행 수가 {@value #MAX_SCAN_ROWS} 를 넘으면 실패.
+ * - Spring Data 리포지토리에 쿼리 메서드가 새로 생겼는데 여기 점검이 없으면 실패 (JDBC 리포지토리는 직접 나열).
+ * 보호소명 부분검색(LIKE '%x%')은 B-tree 를 탈 수 없다 → 목록은 PK 역순 + limit, count 는 커버링 인덱스 스캔(type=index)으로 허용.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AnimalBulkRepository.class, IdSequenceRepository.class, BulkLoadConnectionPool.class,
+        QueryPlanRegressionTest.CaptureConfig.class})
+@EnableConfigurationProperties(AnimalIngestProps.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 적재는 chunk 마다 커밋, 점검 호출은 각자 롤백
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final int ANIMALS = 50_000;
+    private static final int APPLICATIONS = 20_000;
+    private static final int SENIORS = 5_000;
+    private static final int MANAGERS = 200;
+    private static final int SHELTERS = 300;
+    private static final int USERS = 5_000;
+    private static final int SHARDS = 3_000;
+    private static final int REGIONS = 17;
+    private static final int CHUNK = 5_000;
+    /** 신청이 몰린 동물 수 (동물당 신청 4건) */
+    private static final int HOT_ANIMALS = 5_000;
+    private static final long MANAGER_ID_BASE = 10_000;
+
+    /** 이 행 수를 넘는 full scan / filesort 는 회귀로 본다 */
+    private static final long MAX_SCAN_ROWS = 1_000;
+
+    private static final String V7 = "db/migration/V7__query_plan_indexes.sql";
+    private static final String V8 = "db/migration/V8__merge_animal_status_indexes.sql";
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired AnimalRepository animals;
+    @Autowired ApplicationRepository applications;
+    @Autowired ShelterRepository shelters;
+    @Autowired UserRepository users;
+    @Autowired IngestShardRepository shards;
+    @Autowired IngestCheckpointRepository checkpoints;
+    @Autowired IngestWatermarkRepository watermarks;
+    @Autowired AnimalBulkRepository bulkRepo;
+    @Autowired IdSequenceRepository idSequences;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired DataSource dataSource;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PlatformTransactionManager txManager;
+
+    TransactionTemplate tx;
+
+    @BeforeAll
+    void load() {
+        tx = new TransactionTemplate(txManager);
+
+        for (int from = 0; from < ANIMALS; from += CHUNK) {
+            List<Animal> chunk = animalRows(from, Math.min(ANIMALS, from + CHUNK));
+            tx.executeWithoutResult(s -> bulkRepo.insertAll(chunk));
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= SHELTERS; i++) {
+            rows.add(new Object[] { careNm(i - 1), "주소 " + i, "S-" + i });
+        }
+        jdbc.batchUpdate("insert into shelters (care_nm, care_addr, external_id) values (?, ?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            rows.add(new Object[] { "user" + i + "@test.com", "{noop}pw", "SENIOR", "사용자 " + i });
+        }
+        jdbc.batchUpdate("insert into users (email, password, role, display_name) values (?, ?, ?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (long i = 1; i <= SENIORS; i++) {
+            rows.add(new Object[] { i, "시니어 " + i, "주소 " + i, i % 2 == 0, true, i % 3 == 0 });
+        }
+        jdbc.batchUpdate("insert into seniors (user_id, name, address, has_pet_experience, terms_agree, bodycam_agree) " +
+                "values (?, ?, ?, ?, ?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (long i = 1; i <= MANAGERS; i++) {
+            rows.add(new Object[] { MANAGER_ID_BASE + i, "매니저 " + i });
+        }
+        jdbc.batchUpdate("insert into managers (user_id, name) values (?, ?)", rows);
+
+        // 신청은 앞쪽 동물 5천 마리에 4건씩, 시니어마다 4건씩 (목록 첫 페이지가 차야 count 까지 나간다)
+        List<Long> hot = jdbc.queryForList("select id from animals order by id limit " + HOT_ANIMALS, Long.class);
+        long firstId = idSequences.allocate(IdSequenceRepository.APPLICATIONS, APPLICATIONS);
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            Long managerId = (i % 3 == 0) ? null : MANAGER_ID_BASE + 1 + (i % MANAGERS);
+            rows.add(new Object[] { firstId + i, 1L + (i % SENIORS), hot.get(i % hot.size()), managerId,
+                    statuses[i % statuses.length].name(), now.minusMinutes(APPLICATIONS - i) });
+        }
+        jdbc.batchUpdate("insert into applications (id, senior_id, animal_id, manager_id, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?)", rows);
+
+        // 지난 backfill 은 DONE 으로 쌓이고 대기/실행 중 shard 는 일부
+        rows = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            String status = i < SHARDS - 100 ? "DONE" : (i % 2 == 0 ? "PENDING" : "RUNNING");
+            rows.add(new Object[] { "bf-" + (i / 200), "animal-api", region(i), FIRST_DAY.plusDays(i),
+                    FIRST_DAY.plusDays(i + 6), 1000, status, i % 3, now.minusMinutes(i % 30) });
+        }
+        jdbc.batchUpdate("insert into ingest_shards (backfill_key, source, upr_cd, from_date, to_date, page_size, " +
+                "status, attempts, lease_until) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(new Object[] { "job-" + i, "animal-api", FIRST_DAY.plusDays(i), FIRST_DAY.plusDays(i + 30),
+                    region(i), 1000, i % 40, "DONE" });
+        }
+        jdbc.batchUpdate("insert into ingest_checkpoints (job_key, source, from_date, to_date, upr_cd, page_size, " +
+                "last_page, status) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        rows = new ArrayList<>();
+        for (int i = 0; i < REGIONS; i++) {
+            rows.add(new Object[] { "animal-api", region(i), FIRST_DAY.plusDays(i) });
+        }
+        jdbc.batchUpdate("insert into ingest_watermarks (source, upr_cd, high_water_dt) values (?, ?, ?)", rows);
+
+        jdbc.execute("analyze table animals, applications, shelters, users, seniors, managers, " +
+                "ingest_shards, ingest_checkpoints, ingest_watermarks");
+    }
+
+    @Test
+    void everyRepositoryQueryStaysOnIndexes() {
+        Set<String> covered = new HashSet<>();
+        List<String> violations = new ArrayList<>();
+
+        for (Check check : checks()) {
+            covered.add(check.key());
+            List<Captured> statements = capture(check);
+            if (statements.isEmpty()) {
+                violations.add(check.key() + ": SQL 이 나가지 않음 (캐시 적중 등 — 점검 호출을 고칠 것)");
+            }
+            for (Captured c : statements) {
+                List<PlanRow> plan = explain(c);
+                List<String> problems = new ArrayList<>();
+                for (PlanRow row : plan) {
+                    if ("ALL".equals(row.type()) && row.rows() > MAX_SCAN_ROWS) {
+                        problems.add("full scan on " + row.table() + " (" + row.rows() + " rows)");
+                    }
+                    if (row.extra() != null && row.extra().contains("Using filesort") && row.rows() > MAX_SCAN_ROWS) {
+                        problems.add("filesort on " + row.table() + " (" + row.rows() + " rows)");
+                    }
+                }
+                if (!problems.isEmpty()) {
+                    violations.add(check.key() + ": " + String.join(", ", problems) + "\n    " + c.sql() + "\n"
+                            + plan.stream().map(r -> "    " + r).collect(Collectors.joining("\n")));
+                }
+            }
+        }
+
+        assertThat(violations).as("실행계획 회귀\n" + String.join("\n", violations)).isEmpty();
+
+        Set<String> missing = new TreeSet<>(declaredQueryMethods());
+        missing.removeAll(covered);
+        assertThat(missing).as("실행계획 점검이 없는 리포지토리 쿼리 메서드 — checks() 에 추가할 것").isEmpty();
+    }
+
+    @Test
+    void migrationRecreatesMissingIndexesAndIsIdempotent() throws Exception {
+        // 기존 DB(ddl-auto 로 만들어진 테이블에 인덱스가 없는 상태, V8 이전 모양의 인덱스)를 흉내
+        jdbc.execute("drop index idx_applications_status_created on applications");
+        jdbc.execute("drop index idx_animals_care_nm_status on animals");
+        jdbc.execute("alter table animals drop index idx_animals_risk_level, add index idx_animals_risk_level (risk_level, id)");
+        jdbc.execute("alter table animals drop index idx_animals_status, add index idx_animals_status (status, id)");
+
+        try (Connection c = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(c, new ClassPathResource(V7)); // V7 이 겹치는 인덱스도 만든다
+            ScriptUtils.executeSqlScript(c, new ClassPathResource(V8));
+            ScriptUtils.executeSqlScript(c, new ClassPathResource(V8)); // 두 번째는 전부 DO 0
+        }
+
+        assertThat(indexNames("animals")).contains("idx_animals_care_nm_status", "idx_animals_desertion_no",
+                "idx_animals_shelter")
+                .doesNotContain("idx_animals_risk_status", "idx_animals_status_happen");
+        assertThat(indexColumns("animals", "idx_animals_risk_level")).containsExactly("risk_level", "status", "id");
+        assertThat(indexColumns("animals", "idx_animals_status")).containsExactly("status", "happen_dt", "id");
+        assertThat(indexNames("applications")).contains("idx_applications_created",
+                "idx_applications_senior_created", "idx_applications_animal_created",
+                "idx_applications_status_created");
+    }
+
+    /** 리포지토리 메서드마다 운영 호출과 같은 모양의 인자 (한 메서드에 여러 분기가 있으면 분기별로) */
+    private List<Check> checks() {
+        Pageable cards = PageRequest.of(0, 12, Sort.by(Sort.Order.desc("id")));            // AnimalController
+        Pageable reco = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));         // RecommendationService
+        Pageable list = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));  // ApplicationController
+        Pageable few = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));    // 첫 페이지가 차서 count 까지
+        LocalDateTime now = LocalDateTime.now();
+        Long animalId = jdbc.queryForObject("select min(id) from animals", Long.class);
+        Long shardId = jdbc.queryForObject("select max(id) from ingest_shards", Long.class);
+        Long checkpointId = jdbc.queryForObject("select max(id) from ingest_checkpoints", Long.class);
+        List<String> externalIds = new ArrayList<>();
+        List<String> desertionNos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            externalIds.add("E-" + (i * 97));
+            desertionNos.add("D-" + (i * 89));
+        }
+        Set<RiskLevel> recommendable = Set.of(RiskLevel.GREEN, RiskLevel.CAUTION, RiskLevel.LIMIT_BEHAVIOR);
+
+        return List.of(
+                check(AnimalRepository.class, "findByCareNmContainingIgnoreCase",
+                        () -> animals.findByCareNmContainingIgnoreCase("보호소 12", cards)),
+                check(AnimalRepository.class, "findByCareNmContainingIgnoreCaseAndStatus",
+                        () -> animals.findByCareNmContainingIgnoreCaseAndStatus("보호소 12", Animal.Status.AVAILABLE, cards)),
+                check(AnimalRepository.class, "findByCareNmContainingIgnoreCaseAndStatusNot",
+                        () -> animals.findByCareNmContainingIgnoreCaseAndStatusNot("보호소 12", Animal.Status.CLOSED, cards)),
+                check(AnimalRepository.class, "findByStatusNot",
+                        () -> animals.findByStatusNot(Animal.Status.CLOSED, cards)),
+                check(AnimalRepository.class, "findByExternalId",
+                        () -> animals.findByExternalId("E-4242")),
+                check(AnimalRepository.class, "findByDesertionNo",
+                        () -> animals.findByDesertionNo("D-4242")),
+                check(AnimalRepository.class, "findKeys",
+                        () -> animals.findKeys(externalIds, desertionNos)),
+                check(AnimalRepository.class, "findRecommendable",
+                        () -> animals.findRecommendable(recommendable, Animal.Status.CLOSED, reco)),
+                check(AnimalRepository.class, "existsByCareNm",
+                        () -> animals.existsByCareNm(careNm(7))),
+                check(AnimalRepository.class, "findDistinctCareNames",
+                        () -> animals.findDistinctCareNames()),
+
+                check(ApplicationRepository.class, "findBySeniorId",
+                        () -> applications.findBySeniorId(42L, few)),
+                check(ApplicationRepository.class, "findByAnimalId",
+                        () -> applications.findByAnimalId(animalId, few)),
+                check(ApplicationRepository.class, "findByShelterAndStatus",
+                        () -> applications.findByShelterAndStatus(7L, ApplicationStatus.PENDING, list)),
+                check(ApplicationRepository.class, "findByShelterAndStatus",
+                        () -> applications.findByShelterAndStatus(7L, null, list)),
+                check(ApplicationRepository.class, "findByShelterAndStatus",
+                        () -> applications.findByShelterAndStatus(null, ApplicationStatus.PENDING, list)),
+                check(ApplicationRepository.class, "findByShelterAndStatus",
+                        () -> applications.findByShelterAndStatus(null, null, list)),
+                check(ApplicationRepository.class, "findAll",
+                        () -> applications.findAll(list)),
+
+                check(ShelterRepository.class, "findByExternalId",
+                        () -> shelters.findByExternalId("S-7")),
+                check(ShelterRepository.class, "findByNameAndAddress",
+                        () -> shelters.findByNameAndAddress(careNm(6), "주소 7")),
+
+                check(UserRepository.class, "existsByEmail",
+                        () -> users.existsByEmail("user42@test.com")),
+                check(UserRepository.class, "findByEmail",
+                        () -> users.findByEmail("user42@test.com")),
+
+                check(IngestShardRepository.class, "findByBackfillKeyOrderByIdAsc",
+                        () -> shards.findByBackfillKeyOrderByIdAsc("bf-3")),
+                check(IngestShardRepository.class, "existsByBackfillKey",
+                        () -> shards.existsByBackfillKey("bf-3")),
+                check(IngestShardRepository.class, "findClaimable",
+                        () -> shards.findClaimable(5, 8)),
+                check(IngestShardRepository.class, "claim",
+                        () -> shards.claim(shardId, "w1", 300, 5)),
+                check(IngestShardRepository.class, "failExhausted",
+                        () -> shards.failExhausted(5)),
+                check(IngestShardRepository.class, "renew",
+                        () -> shards.renew(shardId, "w1", 300)),
+                check(IngestShardRepository.class, "finish",
+                        () -> shards.finish(shardId, "w1", IngestShard.Status.DONE, 10, 5, 3, 2, now,
+                                IngestShard.Status.RUNNING)),
+                check(IngestShardRepository.class, "fail",
+                        () -> shards.fail(shardId, "w1", "boom", 5, now, IngestShard.Status.PENDING,
+                                IngestShard.Status.FAILED, IngestShard.Status.RUNNING)),
+
+                check(IngestCheckpointRepository.class, "findByJobKey",
+                        () -> checkpoints.findByJobKey("job-42")),
+                check(IngestCheckpointRepository.class, "advance",
+                        () -> checkpoints.advance(checkpointId, 41, 1000, 50, now)),
+                check(IngestCheckpointRepository.class, "deleteFinished",
+                        () -> checkpoints.deleteFinished("animal-api", region(3), IngestCheckpoint.Status.DONE,
+                                LocalDate.of(2024, 1, 1))),
+                check(IngestCheckpointRepository.class, "finish",
+                        () -> checkpoints.finish(checkpointId, IngestCheckpoint.Status.DONE, null, now)),
+
+                check(IngestWatermarkRepository.class, "findBySourceAndUprCd",
+                        () -> watermarks.findBySourceAndUprCd("animal-api", region(3))),
+
+                check(AnimalBulkRepository.class, "touchSeen",
+                        () -> bulkRepo.touchSeen(List.of(animalId, animalId + 1, animalId + 2), now, "6110000")),
+                check(AnimalBulkRepository.class, "retireUnseen",
+                        () -> bulkRepo.retireUnseen(region(3), FIRST_DAY, FIRST_DAY.plusDays(30), now.minusDays(1))),
+                check(AnimalBulkRepository.class, "retireUnseen",
+                        () -> bulkRepo.retireUnseen(null, FIRST_DAY, FIRST_DAY.plusDays(30), now.minusDays(1)))
+        );
+    }
+
+    /** 점검 호출을 롤백 트랜잭션 안에서 실행하고 그 사이 나간 select/update/delete 를 모은다 */
+    private List<Captured> capture(Check check) {
+        emf.unwrap(SessionFactory.class).getCache().evictAllRegions(); // 2차 캐시 적중이면 SQL 이 안 나간다
+        List<Captured> captured = new ArrayList<>();
+        SqlCapture.ACTIVE.set(captured);
+        try {
+            tx.executeWithoutResult(s -> {
+                check.call().run();
+                s.setRollbackOnly();
+            });
+        } finally {
+            SqlCapture.ACTIVE.remove();
+        }
+        return captured;
+    }
+
+    /** 드라이버가 파라미터를 클라이언트에서 치환하므로 ':x is null or ...' 분기도 운영과 같게 상수 접힘된다 */
+    private List<PlanRow> explain(Captured c) {
+        return jdbc.execute((ConnectionCallback<List<PlanRow>>) con -> {
+            List<PlanRow> plan = new ArrayList<>();
+            try (PreparedStatement ps = con.prepareStatement("explain " + c.sql())) {
+                for (Map.Entry<Integer, Object> p : c.params().entrySet()) {
+                    if (p.getValue() == null) ps.setNull(p.getKey(), Types.NULL);
+                    else ps.setObject(p.getKey(), p.getValue());
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.add(new PlanRow(rs.getString("table"), rs.getString("type"), rs.getString("key"),
+                                rs.getLong("rows"), rs.getString("Extra")));
+                    }
+                }
+            }
+            return plan;
+        });
+    }
+
+    private Set<String> indexNames(String table) {
+        return new HashSet<>(jdbc.queryForList("select index_name from information_schema.statistics " +
+                "where table_schema = database() and table_name = ?", String.class, table));
+    }
+
+    private List<String> indexColumns(String table, String index) {
+        return jdbc.queryForList("select column_name from information_schema.statistics " +
+                "where table_schema = database() and table_name = ? and index_name = ? order by seq_in_index",
+                String.class, table, index);
+    }
+
+    /** com.matchpet 아래 Spring Data 리포지토리 인터페이스가 직접 선언한 메서드 (상속한 CRUD 는 제외) */
+    private static Set<String> declaredQueryMethods() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition d) {
+                return d.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<String> keys = new TreeSet<>();
+        for (BeanDefinition d : scanner.findCandidateComponents("com.matchpet")) {
+            Class<?> type = ClassUtils.resolveClassName(d.getBeanClassName(), null);
+            for (Method m : type.getDeclaredMethods()) {
+                if (!m.isDefault() && !m.isSynthetic() && !Modifier.isStatic(m.getModifiers())) {
+                    keys.add(type.getSimpleName() + "#" + m.getName());
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static List<Animal> animalRows(int from, int to) {
+        RiskLevel[] levels = RiskLevel.values();
+        LocalDateTime seen = LocalDateTime.now();
+        List<Animal> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Animal a = new Animal();
+            a.setExternalId("E-" + i);
+            a.setDesertionNo("D-" + i);
+            a.setHappenDt(FIRST_DAY.plusDays(i % 730));
+            a.setKindCd("[개] 믹스견");
+            a.setCareNm(careNm(i % SHELTERS));
+            a.setShelterId(1L + (i % SHELTERS));
+            a.setUprCd(region(i));
+            a.setSpecialMark("온순함");
+            a.setProcessCode(i % 10 == 0 ? ProcessState.ADOPTED : ProcessState.PROTECT);
+            a.setStatus(i % 10 == 0 ? Animal.Status.CLOSED : i % 10 == 1 ? Animal.Status.MATCHING : Animal.Status.AVAILABLE);
+            a.setRiskLevel(i % 7 == 0 ? null : levels[i % levels.length]);
+            a.setLastSeenAt(seen);
+            a.setContentHash("h-" + i);
+            list.add(a);
+        }
+        return list;
+    }
+
+    private static String careNm(int n) {
+        return String.format(Locale.ROOT, "행복 보호소 %03d", n);
+    }
+
+    private static String region(int n) {
+        return String.valueOf(6110000 + (n % REGIONS) * 10000);
+    }
+
+    private static Check check(Class<?> repository, String method, Runnable call) {
+        return new Check(repository.getSimpleName() + "#" + method, call);
+    }
+
+    private record Check(String key, Runnable call) {}
+
+    private record Captured(String sql, Map<Integer, Object> params) {}
+
+    private record PlanRow(String table, String type, String key, long rows, String extra) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-14s type=%-7s key=%-32s rows=%-7d %s", table, type, key, rows,
+                    extra != null ? extra : "");
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        static BeanPostProcessor sqlCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds ? SqlCapture.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DataSource → Connection → PreparedStatement 를 JDK 프록시로 감싸 SQL 과 바인딩 값을 기록
+     * ACTIVE 가 설정된 스레드에서 실행된 select/update/delete 만 (id_sequences 발급은 제외)
+     */
+    static final class SqlCapture {
+
+        static final ThreadLocal<List<Captured>> ACTIVE = new ThreadLocal<>();
+
+        static DataSource wrap(DataSource target) {
+            // 풀 종료(close)가 그대로 전달되도록 AutoCloseable 도 노출
+            Class<?>[] types = target instanceof AutoCloseable
+                    ? new Class<?>[] { DataSource.class, AutoCloseable.class } : new Class<?>[] { DataSource.class };
+            return (DataSource) Proxy.newProxyInstance(QueryPlanRegressionTest.class.getClassLoader(), types, (p, m, args) -> {
+                Object r = invoke(target, m, args);
+                return r instanceof Connection c ? connection(c) : r;
+            });
+        }
+
+        private static Connection connection(Connection target) {
+            return proxy(Connection.class, target, (p, m, args) -> {
+                Object r = invoke(target, m, args);
+                return m.getName().equals("prepareStatement") && r instanceof PreparedStatement ps
+                        ? statement(ps, (String) args[0]) : r;
+            });
+        }
+
+        private static PreparedStatement statement(PreparedStatement target, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return proxy(PreparedStatement.class, target, (p, m, args) -> {
+                String name = m.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer i) {
+                    params.put(i, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    params.clear();
+                } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                    record(sql, params);
+                }
+                return invoke(target, m, args);
+            });
+        }
+
+        private static void record(String sql, Map<Integer, Object> params) {
+            List<Captured> sink = ACTIVE.get();
+            if (sink == null) return;
+            String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+            boolean dml = head.startsWith("select") || head.startsWith("update") || head.startsWith("delete");
+            if (dml && !head.contains(IdSequenceRepository.TABLE)) {
+                sink.add(new Captured(sql, new TreeMap<>(params)));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(QueryPlanRegressionTest.class.getClassLoader(), new Class<?>[] { type }, handler);
+        }
+
+        private static Object invoke(Object target, Method m, Object[] args) throws Throwable {
+            try {
+                return m.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.matchpet.domain.animal.repository;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.config.BulkLoadConnectionPool;
+import com.matchpet.domain.animal.entity.Animal;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * id_sequences(pooled-lo) + JDBC batch 설정 검증 (Testcontainers MySQL)
+ * - 같은 엔티티를 batch 크기 1(IDENTITY 와 같은 행당 왕복) / 설정값(50) 으로 저장해 rows/s 를 비교한다 (benchmark 태그).
+ * - JPA 와 적재 JDBC 경로가 같은 시퀀스에서 id 를 받아도 겹치지 않는지 확인한다.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AnimalBulkRepository.class, IdSequenceRepository.class, BulkLoadConnectionPool.class})
+@EnableConfigurationProperties(AnimalIngestProps.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // chunk 마다 커밋
+class AnimalIdBatchingBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK = 1_000;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired EntityManager em;
+    @Autowired AnimalBulkRepository bulkRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+
+    TransactionTemplate tx;
+
+    @BeforeEach
+    void clean() {
+        tx = new TransactionTemplate(txManager);
+        jdbc.update("delete from animals");
+    }
+
+    @Test
+    @Tag("benchmark") // 벽시계 비교 — 기본 test 에서 제외, ./gradlew benchmarkTest
+    void batchedInsertsOutperformRowByRow() {
+        double single = rowsPerSec(rows("S", ROWS), 1);
+        double batched = rowsPerSec(rows("P", ROWS), null);
+
+        log.info("jpa insert rows/s ({} rows, chunk {}): batch=1 {}, batch=50 {} (x{})",
+                ROWS, CHUNK, Math.round(single), Math.round(batched), "%.1f".formatted(batched / single));
+        assertThat(jdbc.queryForObject("select count(*) from animals", Integer.class)).isEqualTo(ROWS * 2);
+        assertThat(batched).isGreaterThan(single);
+    }
+
+    @Test
+    void jpaAndJdbcPathsShareTheSequenceWithoutCollisions() {
+        for (int round = 0; round < 3; round++) {
+            List<Animal> viaJdbc = rows("J" + round, 120);
+            tx.executeWithoutResult(s -> bulkRepo.insertAll(viaJdbc));
+            List<Animal> viaJpa = rows("E" + round, 130);
+            tx.executeWithoutResult(s -> viaJpa.forEach(em::persist));
+        }
+
+        assertThat(jdbc.queryForObject("select count(distinct id) from animals", Integer.class)).isEqualTo(750);
+        Long max = jdbc.queryForObject("select max(id) from animals", Long.class);
+        Long next = jdbc.queryForObject(
+                "select next_val from id_sequences where sequence_name = 'animals'", Long.class);
+        assertThat(next).isGreaterThan(max);
+    }
+
+    /** batchSize 가 null 이면 설정값(hibernate.jdbc.batch_size) */
+    private double rowsPerSec(List<Animal> rows, Integer batchSize) {
+        long started = System.nanoTime();
+        for (int i = 0; i < rows.size(); i += CHUNK) {
+            List<Animal> chunk = rows.subList(i, Math.min(rows.size(), i + CHUNK));
+            tx.executeWithoutResult(s -> {
+                Session session = em.unwrap(Session.class);
+                session.setJdbcBatchSize(batchSize);
+                chunk.forEach(session::persist);
+                session.flush();
+                session.clear();
+            });
+        }
+        return rows.size() / ((System.nanoTime() - started) / 1e9);
+    }
+
+    private static List<Animal> rows(String prefix, int n) {
+        List<Animal> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Animal a = new Animal();
+            a.setExternalId(prefix + "-" + i);
+            a.setDesertionNo(prefix + "-" + i);
+            a.setHappenDt(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            a.setKindCd("[개] 믹스견");
+            a.setCareNm("테스트 보호소");
+            a.setSpecialMark("온순함");
+            a.setStatus(Animal.Status.AVAILABLE);
+            a.setContentHash(prefix + "-hash-" + i);
+            list.add(a);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,145 @@
+package com.matchpet.domain.animal.support;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.enums.NeuterStatus;
+import com.matchpet.domain.animal.enums.ProcessState;
+import com.matchpet.domain.animal.enums.Sex;
+import com.matchpet.domain.animal.enums.Species;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원문 문자열 정규화 (AnimalNormalizer)
+ * - 해석할 수 없는 원문은 예외 없이 null
+ */
+class AnimalNormalizerTest {
+
+    private static final LocalDate REF = LocalDate.of(2025, 1, 10);
+
+    @Test
+    void ageFromBirthYear() {
+        // 2022 의 중간(7/2)을 출생일로 → 2025-01-10 기준 30개월
+        assertThat(AnimalNormalizer.ageMonths("2022(년생)", REF)).isEqualTo(30);
+        assertThat(AnimalNormalizer.ageMonths("2024(60일미만)(년생)", REF)).isEqualTo(1);
+        // 기준일과 같은 해면 1/1 ~ 기준일의 중간 (1/30 → 3/1 기준 1개월)
+        assertThat(AnimalNormalizer.ageMonths("2025(년생)", LocalDate.of(2025, 3, 1))).isEqualTo(1);
+    }
+
+    @Test
+    void malformedAgeIsNull() {
+        assertThat(AnimalNormalizer.ageMonths(null, REF)).isNull();
+        assertThat(AnimalNormalizer.ageMonths("나이 미상", REF)).isNull();
+        assertThat(AnimalNormalizer.ageMonths("22(년생)", REF)).isNull();
+        assertThat(AnimalNormalizer.ageMonths("2026(년생)", REF)).isNull(); // 기준일보다 미래
+    }
+
+    @Test
+    void weightInGrams() {
+        assertThat(AnimalNormalizer.weightGrams("3.2(Kg)")).isEqualTo(3200);
+        assertThat(AnimalNormalizer.weightGrams("0.5kg")).isEqualTo(500);
+        assertThat(AnimalNormalizer.weightGrams("1.2~1.5(Kg)")).isEqualTo(1200); // 범위면 앞 값
+    }
+
+    @Test
+    void malformedOrImplausibleWeightIsNull() {
+        assertThat(AnimalNormalizer.weightGrams(null)).isNull();
+        assertThat(AnimalNormalizer.weightGrams("미상")).isNull();
+        assertThat(AnimalNormalizer.weightGrams("0(Kg)")).isNull();
+        assertThat(AnimalNormalizer.weightGrams("250(Kg)")).isNull(); // 200kg 초과는 입력 오류로 본다
+    }
+
+    @Test
+    void speciesAndBreedFromKindCd() {
+        assertThat(AnimalNormalizer.species("[개] 믹스견")).isEqualTo(Species.DOG);
+        assertThat(AnimalNormalizer.species("[고양이] 코리안 숏헤어")).isEqualTo(Species.CAT);
+        assertThat(AnimalNormalizer.species("[기타축종] 토끼")).isEqualTo(Species.ETC);
+        assertThat(AnimalNormalizer.species("믹스견")).isNull();
+        assertThat(AnimalNormalizer.species(null)).isNull();
+
+        assertThat(AnimalNormalizer.breed("[개] 믹스견")).isEqualTo("믹스견");
+        assertThat(AnimalNormalizer.breed(" 푸들 ")).isEqualTo("푸들");
+        assertThat(AnimalNormalizer.breed("[개]")).isNull();
+        assertThat(AnimalNormalizer.breed("  ")).isNull();
+    }
+
+    @Test
+    void sexCodes() {
+        assertThat(AnimalNormalizer.sex("M")).isEqualTo(Sex.MALE);
+        assertThat(AnimalNormalizer.sex(" f ")).isEqualTo(Sex.FEMALE);
+        assertThat(AnimalNormalizer.sex("Q")).isEqualTo(Sex.UNKNOWN);
+        assertThat(AnimalNormalizer.sex("수컷")).isEqualTo(Sex.UNKNOWN);
+        assertThat(AnimalNormalizer.sex(null)).isNull();
+    }
+
+    @Test
+    void neuterDependsOnSex() {
+        assertThat(AnimalNormalizer.neuter("Y", Sex.FEMALE)).isEqualTo(NeuterStatus.SPAYED);
+        assertThat(AnimalNormalizer.neuter("Y", Sex.MALE)).isEqualTo(NeuterStatus.NEUTERED);
+        assertThat(AnimalNormalizer.neuter("y", null)).isEqualTo(NeuterStatus.NEUTERED);
+        assertThat(AnimalNormalizer.neuter("N", Sex.FEMALE)).isEqualTo(NeuterStatus.INTACT);
+        assertThat(AnimalNormalizer.neuter("U", Sex.MALE)).isEqualTo(NeuterStatus.UNKNOWN);
+        assertThat(AnimalNormalizer.neuter("?", Sex.MALE)).isEqualTo(NeuterStatus.UNKNOWN);
+        assertThat(AnimalNormalizer.neuter(null, Sex.MALE)).isNull();
+    }
+
+    @Test
+    void processStateCodes() {
+        assertThat(AnimalNormalizer.processState("공고중")).isEqualTo(ProcessState.NOTICE);
+        assertThat(AnimalNormalizer.processState("보호중")).isEqualTo(ProcessState.PROTECT);
+        assertThat(AnimalNormalizer.processState("종료(입양)")).isEqualTo(ProcessState.ADOPTED);
+        assertThat(AnimalNormalizer.processState("종료 (반환)")).isEqualTo(ProcessState.RETURNED);
+        assertThat(AnimalNormalizer.processState("종료(기증)")).isEqualTo(ProcessState.DONATED);
+        assertThat(AnimalNormalizer.processState("종료(방사)")).isEqualTo(ProcessState.RELEASED);
+        assertThat(AnimalNormalizer.processState("종료(자연사)")).isEqualTo(ProcessState.NATURAL_DEATH);
+        assertThat(AnimalNormalizer.processState("종료(안락사)")).isEqualTo(ProcessState.EUTHANASIA);
+        assertThat(AnimalNormalizer.processState("종료(기타)")).isEqualTo(ProcessState.ENDED);
+        assertThat(AnimalNormalizer.processState("처리중")).isNull();
+        assertThat(AnimalNormalizer.processState(null)).isNull();
+    }
+
+    @Test
+    void applyFillsTypedColumnsAndKeepsRaw() {
+        Animal a = new Animal();
+        a.setNoticeSdt(REF); // happenDt 가 없으면 공고 시작일 기준
+        a.setAge("2022(년생)");
+        a.setWeight("3.2(Kg)");
+        a.setKindCd("[고양이] 코리안 숏헤어");
+        a.setSexCd("F");
+        a.setNeuterYn("Y");
+        a.setProcessState("보호중");
+
+        new AnimalNormalizer().apply(a);
+
+        assertThat(a.getAgeMonths()).isEqualTo(30);
+        assertThat(a.getWeightGrams()).isEqualTo(3200);
+        assertThat(a.getSpecies()).isEqualTo(Species.CAT);
+        assertThat(a.getBreedNm()).isEqualTo("코리안 숏헤어");
+        assertThat(a.getSexType()).isEqualTo(Sex.FEMALE);
+        assertThat(a.getNeuterStatus()).isEqualTo(NeuterStatus.SPAYED);
+        assertThat(a.getProcessCode()).isEqualTo(ProcessState.PROTECT);
+        assertThat(a.getAge()).isEqualTo("2022(년생)");
+        assertThat(a.getKindCd()).isEqualTo("[고양이] 코리안 숏헤어");
+    }
+
+    @Test
+    void applyLeavesUnparseableColumnsNull() {
+        Animal a = new Animal();
+        a.setHappenDt(REF);
+        a.setAge("모름");
+        a.setWeight("측정 불가");
+        a.setKindCd("");
+
+        new AnimalNormalizer().apply(a);
+
+        assertThat(a.getAgeMonths()).isNull();
+        assertThat(a.getWeightGrams()).isNull();
+        assertThat(a.getSpecies()).isNull();
+        assertThat(a.getBreedNm()).isNull();
+        assertThat(a.getSexType()).isNull();
+        assertThat(a.getNeuterStatus()).isNull();
+        assertThat(a.getProcessCode()).isNull();
+    }
+}
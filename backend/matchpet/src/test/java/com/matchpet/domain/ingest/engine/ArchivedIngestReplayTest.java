@@ -0,0 +1,145 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.matchpet.domain.ingest.job.IngestProgress;
+import com.matchpet.domain.ingest.source.AbandonmentApiSource;
+import com.matchpet.domain.ingest.source.ArchiveReplaySource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 원본 보관 + 재생 (Testcontainers MySQL + WireMock)
+ * - 보관 중에는 느린 페이지가 있어도 numOfRows 를 줄이지 않는다 (한 범위가 한 pageSize 디렉터리에 모여야 재생 가능)
+ * - 보관한 범위는 외부 API 없이 처음부터 끝까지 다시 읽힌다
+ * - totalCount 상 있어야 할 보관 페이지가 빠져 있으면 범위의 끝으로 보지 않고 실패한다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class ArchivedIngestReplayTest {
+
+    private static final String PATH = "/abandonmentPublic_v2";
+    private static final Path ARCHIVE_DIR = tempDir();
+
+    @RegisterExtension
+    static WireMockExtension wm = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", mysql::getJdbcUrl);
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("animal.api.encoding-key", () -> "test-key");
+        r.add("animal.api.endpoint", () -> wm.baseUrl() + PATH);
+        r.add("animal.api.archive.enabled", () -> "true");
+        r.add("animal.api.archive.dir", ARCHIVE_DIR::toString);
+        // 2 → 1 로 줄일 수 있는 설정 — 보관 중이 아니라면 느린 1페이지 뒤에 줄어든다
+        r.add("animal.ingest.adaptive.max-page-size", () -> "2");
+        r.add("animal.ingest.adaptive.min-page-size", () -> "1");
+        r.add("animal.ingest.adaptive.slow-ms", () -> "50");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired IngestEngine engine;
+    @Autowired AbandonmentApiSource api;
+    @Autowired ArchiveReplaySource replay;
+    @Autowired JdbcTemplate jdbc;
+
+    @BeforeEach
+    void clean() {
+        jdbc.update("delete from animals");
+        wm.resetAll();
+    }
+
+    @Test
+    void slowPagesDoNotSplitArchiveAndReplayReadsWholeRange() {
+        // totalCount 6 / numOfRows 2 → 3페이지, 1페이지가 느리다
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("1"))
+                .willReturn(okJson(page(1, 2, 6)).withFixedDelay(300)));
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("2")).willReturn(okJson(page(2, 2, 6))));
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("3")).willReturn(okJson(page(3, 2, 6))));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28), null, 2);
+        IngestCounters fetched = engine.run(api, req, IngestProgress.NONE);
+
+        assertThat(fetched.getTotal()).isEqualTo(6);
+        wm.verify(3, getRequestedFor(urlPathEqualTo(PATH)).withQueryParam("numOfRows", equalTo("2")));
+        wm.verify(0, getRequestedFor(urlPathEqualTo(PATH)).withQueryParam("numOfRows", notMatching("2")));
+
+        wm.resetAll(); // 재생은 외부 API 를 부르지 않는다
+        IngestCounters replayed = engine.run(replay, req, IngestProgress.NONE);
+
+        assertThat(replayed.getTotal()).isEqualTo(6);
+        assertThat(replayed.getUnchanged()).isEqualTo(6);
+        wm.verify(0, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void missingArchivedPageFailsReplay() throws IOException {
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("1")).willReturn(okJson(page(1, 2, 6))));
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("2")).willReturn(okJson(page(2, 2, 6))));
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("3")).willReturn(okJson(page(3, 2, 6))));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), null, 2);
+        engine.run(api, req, IngestProgress.NONE);
+
+        // 2페이지 보관본 유실
+        try (Stream<Path> files = Files.list(ARCHIVE_DIR.resolve("2025-03-01_2025-03-31_ALL_n2"))) {
+            for (Path f : files.filter(f -> f.getFileName().toString().startsWith("p00002-")).toList()) {
+                Files.delete(f);
+            }
+        }
+
+        assertThatThrownBy(() -> engine.run(replay, req, IngestProgress.NONE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing page 2");
+        assertThat(jdbc.queryForObject(
+                "select status from ingest_checkpoints where source = ? and from_date = ?",
+                String.class, ArchiveReplaySource.NAME, req.from())).isEqualTo("FAILED");
+    }
+
+    private static Path tempDir() {
+        try {
+            return Files.createTempDirectory("api-archive");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String page(int pageNo, int rows, int totalCount) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) items.append(',');
+            items.append("{\"desertionNo\":\"45").append(pageNo * 1000 + i)
+                 .append("\",\"happenDt\":\"20250210\",\"kindCd\":\"[개] 믹스견\",\"processState\":\"보호중\"}");
+        }
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[" + items + "]},"
+                + "\"numOfRows\":" + rows + ",\"pageNo\":" + pageNo + ",\"totalCount\":" + totalCount + "}}}";
+    }
+}
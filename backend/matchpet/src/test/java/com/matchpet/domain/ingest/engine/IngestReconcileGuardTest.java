@@ -0,0 +1,160 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.repository.AnimalBulkRepository;
+import com.matchpet.domain.ingest.job.IngestProgress;
+import com.matchpet.domain.ingest.source.AbandonmentApiSource;
+import com.matchpet.external.AnimalApiResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 적재 정리(retireUnseen) 안전장치 (Testcontainers MySQL + WireMock)
+ * - HTTP 200 오류 페이지(resultCode ≠ "00")나 totalCount 보다 일찍 끊긴 범위에서는 한 행도 닫지 않는다.
+ * - 범위를 끝까지 읽은 실행만 이번에 안 보인 행을 CLOSED 로 바꾼다.
+ * - 시/도 지정 실행은 그 지역 행만 닫는다 (응답 item 에 upr_cd 가 없어도 요청 지역으로 채워 둔다).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class IngestReconcileGuardTest {
+
+    private static final String PATH = "/abandonmentPublic_v2";
+    private static final int SEEDED = 20;
+
+    @RegisterExtension
+    static WireMockExtension wm = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", mysql::getJdbcUrl);
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("animal.api.encoding-key", () -> "test-key");
+        r.add("animal.api.endpoint", () -> wm.baseUrl() + PATH);
+        r.add("animal.ingest.adaptive.enabled", () -> "false");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired IngestEngine engine;
+    @Autowired AbandonmentApiSource source;
+    @Autowired AnimalBulkRepository bulkRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("delete from animals");
+        List<Animal> rows = new ArrayList<>();
+        for (int i = 0; i < SEEDED; i++) {
+            Animal a = new Animal();
+            a.setExternalId("OLD-" + i);
+            a.setDesertionNo("OLD-" + i);
+            a.setHappenDt(LocalDate.of(2025, 1, 10));
+            a.setKindCd("[개] 믹스견");
+            a.setStatus(Animal.Status.AVAILABLE);
+            a.setContentHash("old-" + i);
+            a.setLastSeenAt(LocalDateTime.now().minusDays(7));
+            rows.add(a);
+        }
+        new TransactionTemplate(txManager).executeWithoutResult(s -> bulkRepo.insertAll(rows));
+    }
+
+    @Test
+    void errorPageClosesNothing() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(
+                "{\"response\":{\"header\":{\"resultCode\":\"22\","
+                + "\"resultMsg\":\"LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.\"}}}")));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), null, 2);
+        assertThatThrownBy(() -> engine.run(source, req, IngestProgress.NONE))
+                .isInstanceOf(AnimalApiResultException.class)
+                .hasMessageContaining("resultCode=22");
+
+        assertThat(available()).isEqualTo(SEEDED);
+    }
+
+    @Test
+    void rangeThatStopsBeforeLastPageClosesNothing() {
+        // totalCount 6 / numOfRows 2 → 3페이지인데 2페이지가 비어서 온다
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("1")).willReturn(okJson(page(1, 2, 6))));
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo("2")).willReturn(okJson(page(2, 0, 6))));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 31), null, 2);
+        assertThatThrownBy(() -> engine.run(source, req, IngestProgress.NONE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("empty page 2");
+
+        assertThat(available()).isEqualTo(SEEDED);
+    }
+
+    @Test
+    void fullyReadRangeRetiresUnseenRows() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(page(1, 2, 2))));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 31), null, 2);
+        IngestCounters c = engine.run(source, req, IngestProgress.NONE);
+
+        assertThat(c.getRetired()).isEqualTo(SEEDED);
+        assertThat(available()).isEqualTo(2); // 이번에 받은 2건만 남는다
+    }
+
+    @Test
+    void regionScopedRunRetiresOnlyThatRegion() {
+        // 원천 item 에는 upr_cd 가 없다 (요청 필터일 뿐) → 적재 시 요청 지역으로 채워야 지역 정리가 맞는다
+        jdbc.update("update animals set upr_cd = case when id % 2 = 0 then '6110000' else '6260000' end");
+        wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("upr_cd", equalTo("6110000"))
+                .willReturn(okJson(page(1, 2, 2))));
+
+        IngestRequest req = new IngestRequest(LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 31), "6110000", 2);
+        IngestCounters c = engine.run(source, req, IngestProgress.NONE);
+
+        assertThat(c.getRetired()).isEqualTo(SEEDED / 2);
+        assertThat(jdbc.queryForObject("select count(*) from animals where status = 'AVAILABLE' and upr_cd = '6260000'",
+                Integer.class)).isEqualTo(SEEDED / 2);
+        assertThat(jdbc.queryForObject("select count(*) from animals where status = 'AVAILABLE' and upr_cd = '6110000'",
+                Integer.class)).isEqualTo(2); // 이번에 받은 행은 요청 지역으로 채워짐
+    }
+
+    private int available() {
+        return jdbc.queryForObject("select count(*) from animals where status = 'AVAILABLE'", Integer.class);
+    }
+
+    private static String page(int pageNo, int rows, int totalCount) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) items.append(',');
+            items.append("{\"desertionNo\":\"44").append(pageNo * 1000 + i)
+                 .append("\",\"happenDt\":\"20250110\",\"kindCd\":\"[개] 믹스견\",\"processState\":\"보호중\"}");
+        }
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[" + items + "]},"
+                + "\"numOfRows\":" + rows + ",\"pageNo\":" + pageNo + ",\"totalCount\":" + totalCount + "}}}";
+    }
+}
@@ -0,0 +1,178 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.config.AnimalIngestProps;
+import com.matchpet.config.BulkLoadConnectionPool;
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.animal.repository.AnimalBulkRepository;
+import com.matchpet.domain.animal.repository.AnimalRepository;
+import com.matchpet.domain.animal.repository.IdSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대량 적재 모드(LOAD DATA + 스테이징 병합) 정확성 + 처리량 비교 (Testcontainers MySQL)
+ * - JPA saveAll(행 단위 INSERT) / JDBC batch sink / LOAD DATA sink 의 rows/s 를 같은 데이터로 잰다.
+ * - 결과는 로그로 남기고, 대량 모드가 JPA 경로보다 빠른지만 확인한다 (benchmark 태그 — 기본 test 에서 제외).
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AnimalBulkRepository.class, IdSequenceRepository.class, BulkLoadConnectionPool.class,
+        JdbcBatchAnimalSink.class, LoadDataAnimalSink.class})
+@EnableConfigurationProperties(AnimalIngestProps.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 엔진처럼 chunk 마다 커밋
+class LoadDataAnimalSinkBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK = 1_000;
+    private static final Path SPOOL = tempDir();
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--local-infile=1");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+        r.add("animal.ingest.bulk.spool-dir", SPOOL::toString);
+    }
+
+    @Autowired AnimalRepository repo;
+    @Autowired JdbcBatchAnimalSink batchSink;
+    @Autowired LoadDataAnimalSink loadDataSink;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+
+    TransactionTemplate tx;
+
+    @BeforeEach
+    void clean() {
+        tx = new TransactionTemplate(txManager);
+        jdbc.update("delete from animals");
+    }
+
+    @Test
+    void loadDataMergeCountsInsertUpdateUnchanged() {
+        List<Animal> first = rows("M", 0, 300);
+        IngestCounters c1 = new IngestCounters();
+        tx.executeWithoutResult(s -> loadDataSink.write(first, c1));
+        assertThat(c1.getInserted()).isEqualTo(300);
+
+        // 100건 내용 변경 + 50건 신규 + 나머지 동일
+        List<Animal> second = rows("M", 0, 350);
+        for (int i = 0; i < 100; i++) {
+            second.get(i).setSpecialMark("수정된 특이사항\t탭\\역슬래시\n개행");
+            second.get(i).setContentHash("changed-" + i);
+        }
+        IngestCounters c2 = new IngestCounters();
+        tx.executeWithoutResult(s -> loadDataSink.write(second, c2));
+
+        assertThat(c2.getInserted()).isEqualTo(50);
+        assertThat(c2.getUpdated()).isEqualTo(100);
+        assertThat(c2.getUnchanged()).isEqualTo(200);
+        assertThat(jdbc.queryForObject("select count(*) from animals", Integer.class)).isEqualTo(350);
+        assertThat(jdbc.queryForObject("select special_mark from animals where external_id = 'M-0'", String.class))
+                .isEqualTo("수정된 특이사항\t탭\\역슬래시\n개행");
+        assertThat(jdbc.queryForObject("select count(*) from animals where last_seen_at is null", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void sharedPoolCannotLoadLocalFiles() throws IOException {
+        // allowLoadLocalInfileInPath 는 대량 적재 전용 풀에만 — 공용 풀 커넥션은 클라이언트 파일을 읽지 못한다
+        Path file = Files.writeString(SPOOL.resolve("probe.tsv"), "x\n");
+        jdbc.execute("create temporary table if not exists probe (v varchar(10))");
+        assertThatThrownBy(() -> jdbc.execute("load data local infile '" + file + "' into table probe"))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    @Tag("benchmark") // 벽시계 비교 — 기본 test 에서 제외, ./gradlew benchmarkTest
+    void bulkModeOutperformsJpaPath() {
+        double jpa = rowsPerSec("jpa", rows("J", 0, ROWS), chunk -> repo.saveAll(chunk));
+        double batch = rowsPerSec("batch", rows("B", 0, ROWS), chunk -> batchSink.write(chunk, new IngestCounters()));
+        double bulk = rowsPerSec("bulk", rows("L", 0, ROWS), chunk -> loadDataSink.write(chunk, new IngestCounters()));
+
+        log.info("ingest write rows/s ({} rows, chunk {}): jpa={} batch={} bulk={}",
+                ROWS, CHUNK, Math.round(jpa), Math.round(batch), Math.round(bulk));
+        assertThat(jdbc.queryForObject("select count(*) from animals", Integer.class)).isEqualTo(ROWS * 3);
+        assertThat(bulk).isGreaterThan(jpa);
+    }
+
+    private double rowsPerSec(String label, List<Animal> rows, Consumer<List<Animal>> write) {
+        long started = System.nanoTime();
+        for (int i = 0; i < rows.size(); i += CHUNK) {
+            List<Animal> chunk = rows.subList(i, Math.min(rows.size(), i + CHUNK));
+            tx.executeWithoutResult(s -> write.accept(chunk));
+        }
+        double sec = (System.nanoTime() - started) / 1e9;
+        return rows.size() / sec;
+    }
+
+    private static List<Animal> rows(String prefix, int from, int to) {
+        List<Animal> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Animal a = new Animal();
+            a.setExternalId(prefix + "-" + i);
+            a.setDesertionNo(prefix + "-" + i);
+            a.setHappenDt(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            a.setHappenPlace("서울특별시 어딘가 " + i);
+            a.setKindCd("[개] 믹스견");
+            a.setColorCd("갈색");
+            a.setAge("2022(년생)");
+            a.setWeight("3.2(Kg)");
+            a.setSexCd(i % 2 == 0 ? "M" : "F");
+            a.setNeuterYn("N");
+            a.setProcessState("보호중");
+            a.setSpecialMark("온순함, 사람 좋아함");
+            a.setCareNm("테스트 보호소");
+            a.setUprCd("6110000");
+            a.setContentHash("h-" + i);
+            list.add(a);
+        }
+        return list;
+    }
+
+    private static Path tempDir() {
+        try {
+            return Files.createTempDirectory("matchpet-spool-test").toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
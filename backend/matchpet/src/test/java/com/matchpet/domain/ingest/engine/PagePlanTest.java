@@ -0,0 +1,146 @@
+package com.matchpet.domain.ingest.engine;
+
+import com.matchpet.config.AnimalIngestProps;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 페이지 크기 (PagePlan)
+ * - 크기는 최대값을 절반씩 줄인 단계만 쓰고, 바꿔도 같은 행 offset 에서 이어 받는다
+ * - 타임아웃 / 504 / 메모리 한도 초과만 크기 탓으로 보고 줄인다
+ */
+class PagePlanTest {
+
+    private static final long SLOW = 9_000;
+    private static final long MEDIUM = 5_000;
+    private static final long FAST = 100;
+
+    /** 1000 → 500 → 250 → 125, slow 8000ms / fast 2000ms / 3번 연속 빠르면 키움 */
+    private static AnimalIngestProps.Adaptive cfg() {
+        return new AnimalIngestProps.Adaptive();
+    }
+
+    @Test
+    void shrinksDownTheLadderAndStopsAtTheBottom() {
+        PagePlan plan = PagePlan.resume(1000, 0, true, cfg());
+        assertThat(plan.size()).isEqualTo(1000);
+
+        assertThat(plan.shrinkOn(new TimeoutException())).isTrue();
+        assertThat(plan.size()).isEqualTo(500);
+        assertThat(plan.shrinkOn(new TimeoutException())).isTrue();
+        assertThat(plan.size()).isEqualTo(250);
+        assertThat(plan.shrinkOn(new TimeoutException())).isTrue();
+        assertThat(plan.size()).isEqualTo(125);
+
+        assertThat(plan.shrinkOn(new TimeoutException())).isFalse(); // 최소 단계 (100 미만으로는 안 줄임)
+        assertThat(plan.size()).isEqualTo(125);
+        assertThat(plan.pageNo()).isEqualTo(1); // 같은 offset(0)을 다시 받는다
+    }
+
+    @Test
+    void slowPageShrinksAndKeepsRowOffset() {
+        PagePlan plan = PagePlan.resume(1000, 0, true, cfg());
+
+        plan.completed(SLOW); // 0~999 받음
+        assertThat(plan.size()).isEqualTo(500);
+        assertThat(plan.pageNo()).isEqualTo(3); // offset 1000 = 500 × 2
+    }
+
+    @Test
+    void growsOnlyAfterFastStreakOnAlignedOffset() {
+        PagePlan plan = PagePlan.resume(1000, 0, true, cfg());
+        plan.completed(SLOW);                 // offset 1000, → 500
+
+        plan.completed(FAST);                 // 1500
+        plan.completed(FAST);                 // 2000
+        plan.completed(FAST);                 // 2500 — 3번째지만 1000 으로 나누어떨어지지 않음
+        assertThat(plan.size()).isEqualTo(500);
+        assertThat(plan.pageNo()).isEqualTo(6);
+
+        plan.completed(FAST);                 // 3000
+        assertThat(plan.size()).isEqualTo(1000);
+        assertThat(plan.pageNo()).isEqualTo(4); // offset 3000 = 1000 × 3
+    }
+
+    @Test
+    void mediumLatencyResetsFastStreak() {
+        PagePlan plan = PagePlan.resume(500, 0, true, cfg());
+
+        plan.completed(FAST);                 // 500
+        plan.completed(FAST);                 // 1000
+        plan.completed(MEDIUM);               // 1500 — 연속 끊김
+        plan.completed(FAST);                 // 2000
+        plan.completed(FAST);                 // 2500
+        assertThat(plan.size()).isEqualTo(500);
+
+        plan.completed(FAST);                 // 3000, 3번 연속 + 정렬됨
+        assertThat(plan.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void resumesFromCheckpointOffset() {
+        PagePlan full = PagePlan.resume(1000, 3, true, cfg());
+        assertThat(full.size()).isEqualTo(1000);
+        assertThat(full.pageNo()).isEqualTo(4);
+
+        // 500 으로 3페이지 = offset 1500 → 1000 으로는 나누어떨어지지 않으므로 500 에서 이어 받는다
+        PagePlan half = PagePlan.resume(500, 3, true, cfg());
+        assertThat(half.size()).isEqualTo(500);
+        assertThat(half.pageNo()).isEqualTo(4);
+
+        // 단계에 없는 크기(300)로 저장된 체크포인트 → offset 을 맞출 단계가 없으면 그 크기로 고정
+        PagePlan odd = PagePlan.resume(300, 1, true, cfg());
+        assertThat(odd.size()).isEqualTo(300);
+        assertThat(odd.pageNo()).isEqualTo(2);
+        assertThat(odd.shrinkOn(new TimeoutException())).isFalse();
+    }
+
+    @Test
+    void fixedWhenSourceOrConfigDisablesAdaptation() {
+        PagePlan notAdaptive = PagePlan.resume(1000, 2, false, cfg());
+        notAdaptive.completed(SLOW);
+        assertThat(notAdaptive.size()).isEqualTo(1000);
+        assertThat(notAdaptive.pageNo()).isEqualTo(4);
+        assertThat(notAdaptive.shrinkOn(new TimeoutException())).isFalse();
+
+        AnimalIngestProps.Adaptive off = cfg();
+        off.setEnabled(false);
+        PagePlan disabled = PagePlan.resume(1000, 0, true, off);
+        disabled.completed(SLOW);
+        assertThat(disabled.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void shrinksOnlyForSizeRelatedFailures() {
+        assertThat(shrinks(new TimeoutException())).isTrue();
+        assertThat(shrinks(ReadTimeoutException.INSTANCE)).isTrue();                    // netty 읽기 유휴
+        assertThat(shrinks(new IllegalStateException("wrapped", new TimeoutException()))).isTrue();
+        assertThat(shrinks(new DataBufferLimitException("Exceeded limit on max bytes to buffer"))).isTrue();
+        assertThat(shrinks(status(504))).isTrue();
+
+        assertThat(shrinks(status(500))).isFalse();
+        assertThat(shrinks(status(429))).isFalse();
+        assertThat(shrinks(new UncheckedIOException(new IOException("connection reset")))).isFalse();
+        assertThat(shrinks(new IllegalStateException("empty page 2 before last page 3"))).isFalse();
+    }
+
+    private static boolean shrinks(Throwable e) {
+        PagePlan plan = PagePlan.resume(1000, 0, true, cfg());
+        boolean shrunk = plan.shrinkOn(e);
+        assertThat(plan.size()).isEqualTo(shrunk ? 500 : 1000);
+        return shrunk;
+    }
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.matchpet.domain.ingest.source;
+
+import com.matchpet.domain.ingest.engine.IngestSource;
+import com.matchpet.external.AnimalPageStreamReader;
+import com.matchpet.external.dto.ExternalResponse;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 페이지 묶음 처리
+ * - 페이지 도중 끊겨 재시도되면 앞 시도의 남은 item 이 페이지 꼬리(PageTail)에 섞이지 않는다
+ */
+class PageChunkerTest {
+
+    private static final int PAGE_ROWS = 5;
+
+    @Test
+    void retryAfterMidPageFailureDoesNotDuplicateTail() {
+        Retry retry = Retry.of("test", RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .build());
+        AtomicInteger attempts = new AtomicInteger();
+        List<List<String>> emitted = new ArrayList<>();
+
+        IngestSource.PageTail tail = PageChunker.read(
+                attempt -> retry.executeSupplier(() -> {
+                    Consumer<ExternalResponse.Item> onItem = attempt.get();
+                    boolean failMidPage = attempts.incrementAndGet() == 1;
+                    for (int i = 0; i < PAGE_ROWS; i++) {
+                        if (failMidPage && i == 3) {
+                            throw new UncheckedIOException(new IOException("connection reset mid-page"));
+                        }
+                        onItem.accept(item(i));
+                    }
+                    return new AnimalPageStreamReader.PageMeta("00", "NORMAL SERVICE.", PAGE_ROWS, 1, PAGE_ROWS, PAGE_ROWS);
+                }),
+                2, PAGE_ROWS, chunk -> emitted.add(ids(chunk)));
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(ids(tail.items())).containsExactly("4"); // 첫 시도에서 남은 "2" 가 섞이지 않는다
+        assertThat(tail.itemCount()).isEqualTo(PAGE_ROWS);
+        assertThat(tail.lastPage()).isEqualTo(1);
+        // 끊기기 전에 넘긴 묶음은 다시 넘어간다 (키 기준 upsert 라 결과는 같음)
+        assertThat(emitted).containsExactly(List.of("0", "1"), List.of("0", "1"), List.of("2", "3"));
+    }
+
+    @Test
+    void pageWithoutRemainderHasEmptyTail() {
+        IngestSource.PageTail tail = PageChunker.read(attempt -> {
+            Consumer<ExternalResponse.Item> onItem = attempt.get();
+            for (int i = 0; i < 4; i++) onItem.accept(item(i));
+            return new AnimalPageStreamReader.PageMeta("00", "NORMAL SERVICE.", 4, 1, 9, 4);
+        }, 2, 4, chunk -> {});
+
+        assertThat(tail.items()).isEmpty();
+        assertThat(tail.lastPage()).isEqualTo(3);
+    }
+
+    private static ExternalResponse.Item item(int i) {
+        ExternalResponse.Item it = new ExternalResponse.Item();
+        it.setDesertionNo(String.valueOf(i));
+        return it;
+    }
+
+    private static List<String> ids(List<ExternalResponse.Item> items) {
+        return items.stream().map(ExternalResponse.Item::getDesertionNo).toList();
+    }
+}
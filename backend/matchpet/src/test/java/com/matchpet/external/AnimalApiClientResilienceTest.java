@@ -0,0 +1,309 @@
+package com.matchpet.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.matchpet.config.AnimalApiProps;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외부 API 보호 계층 장애 주입 테스트 (WireMock)
+ * - 일시 오류 재시도 / 4xx 비재시도 / 차단기 / 일일 한도 / 격벽
+ * - 지연 + 간헐 오류 상황의 페이지 처리량 측정 (정상 대비, 로그로만 남김)
+ */
+@Slf4j
+class AnimalApiClientResilienceTest {
+
+    private static final String PATH = "/abandonmentPublic_v2";
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @RegisterExtension
+    static WireMockExtension wm = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @Test
+    void retriesTransientServerErrorThenSucceeds() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).inScenario("flaky")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        wm.stubFor(get(urlPathEqualTo(PATH)).inScenario("flaky")
+                .whenScenarioStateIs("recovered")
+                .willReturn(okJson(page(1, 2, 2))));
+
+        AnimalApiClient client = client(guard(Limits.defaults()));
+        AtomicInteger items = new AtomicInteger();
+        var meta = client.stream(FROM, TO, null, 1, 2, it -> items.incrementAndGet());
+
+        assertThat(meta.itemCount()).isEqualTo(2);
+        assertThat(items.get()).isEqualTo(2);
+        wm.verify(2, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void retriesConnectionResetOnWholePageFetch() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).inScenario("reset")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER))
+                .willSetStateTo("ok"));
+        wm.stubFor(get(urlPathEqualTo(PATH)).inScenario("reset")
+                .whenScenarioStateIs("ok")
+                .willReturn(okJson(page(1, 2, 2))));
+
+        var res = client(guard(Limits.defaults())).fetch(FROM, TO, null, 1, 2).block();
+
+        assertThat(res.getResponse().getBody().getItems().getItem()).hasSize(2);
+        wm.verify(2, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(aResponse().withStatus(400)));
+
+        AnimalApiClient client = client(guard(Limits.defaults()));
+
+        // 스트리밍 본문 오류는 InputStream 을 거치며 IOException 으로 감싸인다 → 원인 체인에서 400 을 확인
+        assertThatThrownBy(() -> client.stream(FROM, TO, null, 1, 2, it -> {}))
+                .satisfies(e -> assertThat(causes(e)).hasAtLeastOneElementOfType(WebClientResponseException.BadRequest.class));
+        wm.verify(1, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void previewCallFailsOnErrorPageWithoutRetry() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(
+                "{\"response\":{\"header\":{\"resultCode\":\"22\","
+                + "\"resultMsg\":\"LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.\"}}}")));
+
+        AnimalApiClient client = client(guard(Limits.defaults()));
+
+        assertThatThrownBy(() -> client.call(FROM, TO, null, 1, 2))
+                .isInstanceOf(AnimalApiResultException.class)
+                .hasMessageContaining("resultCode=22");
+        wm.verify(1, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void circuitOpensOnPersistentFailureAndStopsCallingUpstream() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(aResponse().withStatus(500)));
+
+        Limits limits = Limits.defaults();
+        limits.retryAttempts = 1;
+        AnimalApiClient client = client(guard(limits));
+
+        int failures = 0;
+        Throwable last = null;
+        for (int i = 0; i < 10; i++) {
+            try {
+                client.stream(FROM, TO, null, 1, 2, it -> {});
+            } catch (RuntimeException e) {
+                failures++;
+                last = e;
+            }
+        }
+
+        assertThat(failures).isEqualTo(10);
+        assertThat(last).isInstanceOf(CallNotPermittedException.class);
+        // 최소 호출 수(4)만큼만 실제로 나가고 이후는 차단기에서 끊긴다
+        assertThat(wm.findAll(getRequestedFor(urlPathEqualTo(PATH)))).hasSize(4);
+    }
+
+    @Test
+    void dailyQuotaRejectsCallsBeforeTheyReachUpstream() {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(page(1, 2, 2))));
+
+        Limits limits = Limits.defaults();
+        limits.dailyQuota = 3;
+        AnimalApiClient client = client(guard(limits));
+
+        for (int i = 0; i < 3; i++) client.stream(FROM, TO, null, 1, 2, it -> {});
+
+        assertThatThrownBy(() -> client.stream(FROM, TO, null, 1, 2, it -> {}))
+                .isInstanceOf(AnimalApiQuotaExceededException.class);
+        wm.verify(3, getRequestedFor(urlPathEqualTo(PATH)));
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimit() throws Exception {
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(page(1, 2, 2)).withFixedDelay(500)));
+
+        Limits limits = Limits.defaults();
+        limits.maxConcurrent = 1;
+        AnimalApiClient client = client(guard(limits));
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        List<CompletableFuture<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> client.stream(FROM, TO, null, 1, 2, it -> {}), pool));
+        }
+        int rejected = 0;
+        for (CompletableFuture<Object> f : calls) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(BulkheadFullException.class);
+                rejected++;
+            }
+        }
+        pool.shutdown();
+        assertThat(rejected).isGreaterThanOrEqualTo(1);
+    }
+
+    /**
+     * 지연(10~40ms) + 5페이지마다 한 번씩 503/연결 끊김이 나는 상류에서 50페이지를 받는 처리량.
+     * 모든 페이지가 재시도로 회복돼야 하고, 처리량은 정상 상류 대비 로그로 남긴다.
+     */
+    @Test
+    void measuresThroughputUnderDegradedUpstream() {
+        int pages = 50;
+
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(page(1, 20, pages * 20)).withUniformRandomDelay(10, 40)));
+        double healthy = pagesPerSecond(client(guard(Limits.defaults())), pages);
+
+        wm.resetAll();
+        wm.stubFor(get(urlPathEqualTo(PATH)).willReturn(okJson(page(1, 20, pages * 20)).withUniformRandomDelay(10, 40)));
+        for (int p = 5; p <= pages; p += 5) {
+            String scenario = "page-" + p;
+            wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo(String.valueOf(p)))
+                    .inScenario(scenario).whenScenarioStateIs(Scenario.STARTED)
+                    .willReturn(p % 10 == 0
+                            ? aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)
+                            : aResponse().withStatus(503).withFixedDelay(20))
+                    .willSetStateTo("ok"));
+            wm.stubFor(get(urlPathEqualTo(PATH)).withQueryParam("pageNo", equalTo(String.valueOf(p)))
+                    .inScenario(scenario).whenScenarioStateIs("ok")
+                    .willReturn(okJson(page(p, 20, pages * 20)).withUniformRandomDelay(10, 40)));
+        }
+        double degraded = pagesPerSecond(client(guard(Limits.defaults())), pages);
+
+        log.info("animal api throughput: healthy={} pages/s, degraded={} pages/s ({}%)",
+                "%.1f".formatted(healthy), "%.1f".formatted(degraded), "%.0f".formatted(degraded / healthy * 100));
+        assertThat(wm.findAll(getRequestedFor(urlPathEqualTo(PATH)))).hasSize(pages + pages / 5);
+        assertThat(degraded).isPositive();
+    }
+
+    // ===== helpers =====
+
+    private static List<Throwable> causes(Throwable t) {
+        List<Throwable> chain = new ArrayList<>();
+        for (Throwable c = t; c != null && !chain.contains(c); c = c.getCause()) chain.add(c);
+        return chain;
+    }
+
+    private static double pagesPerSecond(AnimalApiClient client, int pages) {
+        long start = System.nanoTime();
+        int items = 0;
+        for (int p = 1; p <= pages; p++) {
+            items += client.stream(FROM, TO, null, p, 20, it -> {}).itemCount();
+        }
+        assertThat(items).isEqualTo(pages * 20);
+        return pages / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static AnimalApiClient client(AnimalApiGuard guard) {
+        AnimalApiProps props = new AnimalApiProps();
+        props.setEndpoint(wm.baseUrl() + PATH);
+        props.setEncodingKey("test-key");
+        props.fix();
+
+        ObjectMapper om = new ObjectMapper();
+        return new AnimalApiClient(new RestTemplate(), om, props, WebClient.create(),
+                new AnimalPageStreamReader(om), new RawPageArchive(props), guard);
+    }
+
+    /** 테스트용 한도 (대기 시간은 짧게) */
+    private static final class Limits {
+        int retryAttempts = 3;
+        int dailyQuota = 10_000;
+        int maxConcurrent = 4;
+
+        static Limits defaults() { return new Limits(); }
+    }
+
+    private static AnimalApiGuard guard(Limits l) {
+        AnimalApiFailures failures = new AnimalApiFailures();
+
+        RetryRegistry retries = RetryRegistry.ofDefaults();
+        retries.retry(AnimalApiGuard.INSTANCE, RetryConfig.custom()
+                .maxAttempts(l.retryAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofMillis(10), 2.0, 0.5))
+                .retryOnException(failures)
+                .build());
+
+        CircuitBreakerRegistry breakers = CircuitBreakerRegistry.ofDefaults();
+        breakers.circuitBreaker(AnimalApiGuard.INSTANCE, CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(failures)
+                .build());
+
+        RateLimiterRegistry limiters = RateLimiterRegistry.ofDefaults();
+        limiters.rateLimiter(AnimalApiGuard.INSTANCE, RateLimiterConfig.custom()
+                .limitForPeriod(1000)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build());
+
+        BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+        bulkheads.bulkhead(AnimalApiGuard.INSTANCE, BulkheadConfig.custom()
+                .maxConcurrentCalls(l.maxConcurrent)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        // 일일 한도는 노드 합산 DB 카운터 대신 메모리 카운터 (DB 쪽은 DbAnimalApiQuotaTest)
+        AtomicInteger used = new AtomicInteger();
+        AnimalApiProps props = new AnimalApiProps();
+        props.setDailyQuota(l.dailyQuota);
+        AnimalApiQuota quota = () -> used.incrementAndGet() <= l.dailyQuota;
+
+        return new AnimalApiGuard(retries, breakers, limiters, bulkheads, quota, props);
+    }
+
+    private static String page(int pageNo, int rows, int totalCount) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) items.append(',');
+            items.append("{\"desertionNo\":\"44").append(pageNo * 1000 + i)
+                 .append("\",\"happenDt\":\"20250110\",\"kindCd\":\"[개] 믹스견\",\"processState\":\"보호중\"}");
+        }
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[" + items + "]},"
+                + "\"numOfRows\":" + rows + ",\"pageNo\":" + pageNo + ",\"totalCount\":" + totalCount + "}}}";
+    }
+}
@@ -0,0 +1,113 @@
+package com.matchpet.external;
+
+import com.matchpet.config.AnimalApiProps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일일 한도 DB 카운터 — 두 노드(각자 커넥션 풀)가 동시에 가져가도 합계가 한도를 넘지 않는지,
+ * 지난 날짜 사용량은 오늘 한도에 섞이지 않는지 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DbAnimalApiQuotaTest {
+
+    private static final int QUOTA = 25;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        nodeA.getBean(JdbcTemplate.class).update("delete from api_daily_quota");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void 두_노드가_동시에_써도_합계는_한도까지만() throws Exception {
+        AnimalApiQuota a = quota(nodeA);
+        AnimalApiQuota b = quota(nodeB);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < QUOTA * 2; i++) {
+            AnimalApiQuota q = i % 2 == 0 ? a : b;
+            calls.add(pool.submit(() -> {
+                go.await();
+                return q.tryAcquire();
+            }));
+        }
+        go.countDown();
+
+        int granted = 0;
+        for (Future<Boolean> f : calls) if (f.get()) granted++;
+        pool.shutdown();
+
+        assertThat(granted).isEqualTo(QUOTA);
+        assertThat(a.tryAcquire()).isFalse();
+        assertThat(b.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 지난_날짜_사용량은_오늘_한도와_무관() {
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+        jdbc.update("insert into api_daily_quota (name, quota_day, used) values (?, " +
+                "date(convert_tz(utc_timestamp(), '+00:00', '+09:00')) - interval 1 day, ?)", DbAnimalApiQuota.NAME, QUOTA);
+
+        assertThat(quota(nodeA).tryAcquire()).isTrue();
+        assertThat(jdbc.queryForObject("select sum(used) from api_daily_quota where quota_day = " +
+                "date(convert_tz(utc_timestamp(), '+00:00', '+09:00'))", Integer.class)).isEqualTo(1);
+    }
+
+    private static AnimalApiQuota quota(ConfigurableApplicationContext node) {
+        AnimalApiProps props = new AnimalApiProps();
+        props.setDailyQuota(QUOTA);
+        return new DbAnimalApiQuota(node.getBean(JdbcTemplate.class), props);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Node.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "--spring.datasource.username=" + mysql.getUsername(),
+                        "--spring.datasource.password=" + mysql.getPassword(),
+                        "--spring.main.banner-mode=off");
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            FlywayAutoConfiguration.class})
+    static class Node {
+    }
+}
@@ -0,0 +1,136 @@
+package com.matchpet.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드(애플리케이션 컨텍스트 2개)가 같은 MySQL 을 바라볼 때 @LeaderOnly 작업이 한 번만 도는지,
+ * lease 를 쥔 노드가 죽으면 다른 노드가 만료 직후 넘겨받는지 확인한다.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class DbLeaseLockClusterTest {
+
+    private static final int LEASE = 3;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        nodeA.getBean(JdbcTemplate.class).update("delete from scheduler_locks");
+        CountingJob.RUNS.set(0);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        if (nodeA.isActive()) nodeA.close();
+        if (nodeB.isActive()) nodeB.close();
+    }
+
+    @Test
+    void 같은_회차는_한_노드만_실행() throws Exception {
+        CountingJob a = nodeA.getBean(CountingJob.class);
+        CountingJob b = nodeB.getBean(CountingJob.class);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            CountingJob job = i % 2 == 0 ? a : b;
+            pool.submit(() -> {
+                go.await();
+                return job.run();
+            });
+        }
+        go.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(CountingJob.RUNS.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 보유_노드가_죽으면_lease_만료_후_다른_노드가_넘겨받음() throws Exception {
+        DbLeaseLock lockA = nodeA.getBean(DbLeaseLock.class);
+        assertThat(lockA.tryAcquire(CountingJob.NAME, Duration.ofSeconds(LEASE), Duration.ZERO)).isPresent();
+
+        // 보유 중에는 B 가 건너뛴다 (A 의 heartbeat 가 lease 를 계속 연장)
+        Thread.sleep(LEASE * 1000L + 500);
+        CountingJob b = nodeB.getBean(CountingJob.class);
+        assertThat(b.run()).isNull();
+
+        // A 종료 — release 없이 heartbeat 만 멈춘다 (프로세스가 죽은 것과 같음)
+        long killedAt = System.nanoTime();
+        nodeA.close();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LEASE * 3L);
+        Integer ran = null;
+        while (ran == null && System.nanoTime() < deadline) {
+            ran = b.run();
+            if (ran == null) Thread.sleep(100);
+        }
+        long failoverMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - killedAt);
+        log.info("failover after {} ms (lease {}s)", failoverMs, LEASE);
+
+        assertThat(ran).isEqualTo(1);
+        assertThat(failoverMs).isLessThanOrEqualTo(LEASE * 1000L + 1000);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Node.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "--spring.datasource.username=" + mysql.getUsername(),
+                        "--spring.datasource.password=" + mysql.getPassword(),
+                        "--spring.main.banner-mode=off");
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            FlywayAutoConfiguration.class})
+    @Import({DbLeaseLock.class, LeaderOnlyPostProcessor.class, CountingJob.class})
+    static class Node {
+    }
+
+    @Component
+    static class CountingJob {
+        static final String NAME = "test-job";
+        static final AtomicInteger RUNS = new AtomicInteger();
+
+        @LeaderOnly(value = NAME, leaseSeconds = LEASE, minHoldSeconds = 2)
+        public Integer run() throws InterruptedException {
+            int n = RUNS.incrementAndGet();
+            Thread.sleep(300); // 다른 노드 호출과 겹치도록
+            return n;
+        }
+    }
+}
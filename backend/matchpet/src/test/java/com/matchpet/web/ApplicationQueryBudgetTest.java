@@ -0,0 +1,123 @@
+package com.matchpet.web;
+
+import com.matchpet.domain.animal.entity.Animal;
+import com.matchpet.domain.application.entity.Application;
+import com.matchpet.domain.application.enums.ApplicationStatus;
+import com.matchpet.domain.application.mapper.ApplicationMapper;
+import com.matchpet.domain.application.service.ApplicationService;
+import com.matchpet.domain.manager.entity.ManagerProfile;
+import com.matchpet.domain.senior.entity.Senior;
+import com.matchpet.monitoring.SqlStats;
+import com.matchpet.monitoring.SqlStatsFilter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 신청 목록 쿼리 예산 (N+1 회귀 방지)
+ * 신청 N건이 모두 다른 동물/시니어/매니저를 가리켜도 목록 한 페이지는 쿼리 수가 N 과 무관해야 한다.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationQueryBudgetTest {
+
+    private static final int APPLICATIONS = 15;
+    /** 목록 select 1 + (필요 시) count 1 */
+    private static final int LIST_BUDGET = 2;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", mysql::getJdbcUrl);
+        r.add("spring.datasource.username", mysql::getUsername);
+        r.add("spring.datasource.password", mysql::getPassword);
+        r.add("animal.api.encoding-key", () -> "test-key");
+        r.add("app.sql-stats.expose-headers", () -> "true");
+        r.add("logging.level.org.hibernate.SQL", () -> "info");
+    }
+
+    @Autowired MockMvc mvc;
+    @Autowired ApplicationService service;
+    @Autowired EntityManager em;
+    @Autowired PlatformTransactionManager txManager;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            for (int i = 1; i <= APPLICATIONS; i++) {
+                Senior senior = new Senior();
+                senior.setUserId(1000L + i);
+                senior.setName("시니어" + i);
+                em.persist(senior);
+
+                ManagerProfile manager = new ManagerProfile();
+                manager.setUserId(2000L + i);
+                manager.setName("매니저" + i);
+                em.persist(manager);
+
+                Animal animal = new Animal();
+                animal.setExternalId("BUDGET-" + i);
+                animal.setKindCd("[개] 믹스견");
+                animal.setStatus(Animal.Status.AVAILABLE);
+                em.persist(animal);
+                em.flush();
+
+                em.persist(Application.builder()
+                        .seniorId(senior.getUserId())
+                        .animalId(animal.getId())
+                        .managerId(manager.getUserId())
+                        .status(ApplicationStatus.PENDING)
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    void listEndpointStaysWithinBudget() throws Exception {
+        MvcResult res = mvc.perform(get("/api/applications").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        int count = Integer.parseInt(res.getResponse().getHeader(SqlStatsFilter.COUNT_HEADER));
+        log.info("GET /api/applications: {} statements, {} ms",
+                count, res.getResponse().getHeader(SqlStatsFilter.TIME_HEADER));
+        assertThat(count).isPositive().isLessThanOrEqualTo(LIST_BUDGET);
+    }
+
+    @Test
+    void serviceListStaysWithinBudgetIncludingMapping() {
+        try (SqlStats.Scope scope = SqlStats.open()) {
+            var rows = service.list(1001L, null, null, null, PageRequest.of(0, 20))
+                    .map(ApplicationMapper::row)
+                    .getContent();
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getSeniorName()).isEqualTo("시니어1");
+            assertThat(scope.statements()).isLessThanOrEqualTo(LIST_BUDGET);
+        }
+    }
+}